@@ -8,31 +8,70 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.net.URI;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriUtils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -51,15 +90,34 @@ import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
 import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
-import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
-import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.AdaptivePageSizeController;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.AdaptivePollingController;
 import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.AggregatedInformation;
 import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.AggregatorInformation;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.ApiRateLimiter;
 import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.BrightSignBSNCloudCommand;
 import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.BrightSignBSNCloudConstant;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.CircuitBreaker;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.ControlCommandStatus;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.CycleSlotCoordinator;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.DeviceTransition;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.DnsCache;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.FleetStatistics;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.HttpRequestMetrics;
 import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.LoginInfo;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.ModelMappingCache;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.NetworkContext;
 import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.PingMode;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.RefreshingSnapshot;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.RequestHedger;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.RequestPriority;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.ShardAssigner;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.ShardMode;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.SingleFlight;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.TokenRegistry;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.TokenState;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.TransitionDetector;
 import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.metric.NetworkInformation;
 import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.metric.StatusEnum;
 import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.metric.StorageInformation;
@@ -80,6 +138,108 @@ import com.avispl.symphony.dal.util.StringUtils;
  *  <li> - NumberOfDevices</li>
  *  <ul>
  *
+ * Networks Group (when more than one network is monitored):
+ * <ul>
+ * <li> - (network name): number of devices of the network</li>
+ * </ul>
+ *
+ * Network-(network name) Groups (when more than one network is monitored, replacing the aggregator information above):
+ * <ul>
+ * <li> - CreationDate, LastLockoutDate, LastModifiedDate, LockedOut, LockoutDate, Name</li>
+ * <li> - SubscriptionCreationDate, SubscriptionExpireDate, SubscriptionLastModifiedDate, SubscriptionLevel</li>
+ * </ul>
+ * The devices and groups of several monitored networks are published with ids prefixed by the network name, for example {@code Lobby/12}.
+ *
+ * RateLimiter Group:
+ * <ul>
+ * <li> - CoalescedRequests</li>
+ * <li> - RejectedRequests</li>
+ * <li> - ThrottledRequests</li>
+ * <li> - TooManyRequestsResponses</li>
+ * <li> - TotalWaitTime(ms)</li>
+ * </ul>
+ *
+ * NetworkInfo Group:
+ * <ul>
+ * <li> - DataAge(s)</li>
+ * <li> - RefreshError (while the network information cannot be refreshed)</li>
+ * </ul>
+ *
+ * Polling Group:
+ * <ul>
+ * <li> - ChangeRate(%)</li>
+ * <li> - CycleSlot</li>
+ * <li> - CycleSlotOffset(ms)</li>
+ * <li> - Interval(ms)</li>
+ * <li> - IntervalReason</li>
+ * <li> - LastCycleDuration(ms)</li>
+ * <li> - LastPageLatency(ms)</li>
+ * <li> - PageSize</li>
+ * <li> - PageSizeReductions</li>
+ * <li> - ConsecutiveFailures</li>
+ * <li> - DataAge(s)</li>
+ * <li> - LastSuccessfulCycle</li>
+ * </ul>
+ *
+ * Sharding Group (when shardCount is greater than 1):
+ * <ul>
+ * <li> - Mode</li>
+ * <li> - OwnedDevices</li>
+ * <li> - ServerSideFilter</li>
+ * <li> - ShardCount</li>
+ * <li> - ShardIndex</li>
+ * </ul>
+ *
+ * Requests Group:
+ * <ul>
+ * <li> - ConnectionReuseRate(%)</li>
+ * <li> - HedgedRequests</li>
+ * <li> - HedgeWins</li>
+ * <li> - ResponseBytes</li>
+ * <li> - ReusedConnections</li>
+ * <li> - Total</li>
+ * </ul>
+ *
+ * CircuitBreaker Group:
+ * <ul>
+ * <li> - ConsecutiveFailures</li>
+ * <li> - LastOpened</li>
+ * <li> - ShortCircuitedRequests</li>
+ * <li> - State</li>
+ * </ul>
+ *
+ * Fleet Transitions Group:
+ * <ul>
+ * <li> - HealthChangeCount24h</li>
+ * <li> - LastHealthChange</li>
+ * <li> - LastHealthChangeDevice</li>
+ * <li> - LastHealthChangeTime</li>
+ * <li> - LastRebootDevice</li>
+ * <li> - LastRebootTime</li>
+ * <li> - RebootCount24h</li>
+ * </ul>
+ *
+ * GroupReboot Group:
+ * <ul>
+ * <li> - Error</li>
+ * <li> - Group</li>
+ * <li> - LastCommand</li>
+ * <li> - LastCommandTime</li>
+ * <li> - RebootGroup</li>
+ * <li> - RebootGroupWithCrashReport</li>
+ * <li> - Status</li>
+ * </ul>
+ *
+ * Fleet Summary Groups:
+ * <ul>
+ * <li> - FleetHealth#Healthy/Idle/Inactive</li>
+ * <li> - FleetModels#(model)</li>
+ * <li> - FleetBrightSignOSVersions#(version)</li>
+ * <li> - FleetGroups#(group name)</li>
+ * <li> - FleetStorage#SizeFree(GB)</li>
+ * <li> - FleetStorage#SizeTotal(GB)</li>
+ * </ul>
+ *
  * Subscription Group:
  * <ul>
  * <li> - CreationDate</li>
@@ -101,6 +261,8 @@ import com.avispl.symphony.dal.util.StringUtils;
  * <li> - GroupID</li>
  * <li> - GroupName</li>
  * <li> - LastConnected</li>
+ * <li> - LastDataUpdate</li>
+ * <li> - NetworkName (when more than one network is monitored)</li>
  * <li> - PlayerID</li>
  * <li> - Presentation</li>
  * <li> - RebootPlayer</li>
@@ -109,6 +271,35 @@ import com.avispl.symphony.dal.util.StringUtils;
  * <li> - SetupType</li>
  * </ul>
  *
+ * Group Aggregated Device (displayGroupAggregates):
+ * <ul>
+ * <li> - BrightSignOSVersions#(version)</li>
+ * <li> - GroupID</li>
+ * <li> - GroupName</li>
+ * <li> - Health#Healthy/Idle/Inactive</li>
+ * <li> - MinimumSizeFree(GB)</li>
+ * <li> - NumberOfBrightSignOSVersions</li>
+ * <li> - NumberOfDevices</li>
+ * </ul>
+ *
+ * Transitions Group:
+ * <ul>
+ * <li> - LastHealthChange</li>
+ * <li> - LastHealthChangeTime</li>
+ * <li> - LastRebootTime</li>
+ * <li> - RebootCount24h</li>
+ * </ul>
+ *
+ * Command Group:
+ * <ul>
+ * <li> - Attempts</li>
+ * <li> - Error</li>
+ * <li> - LastCommand</li>
+ * <li> - LastCommandTime</li>
+ * <li> - Latency(ms)</li>
+ * <li> - Status</li>
+ * </ul>
+ *
  * Location Group:
  * <ul>
  * <li> - Country</li>
@@ -156,75 +347,135 @@ import com.avispl.symphony.dal.util.StringUtils;
  */
 public class BrightSignBSNCloudCommunicator extends RestCommunicator implements Aggregator, Monitorable, Controller {
 	/**
-	 * Process that is running constantly and triggers collecting data from BrightSign BSNCloud SE API endpoints, based on the given timeouts and thresholds.
+	 * Process that is scheduled on {@link #executorService} and triggers collecting data from BrightSign BSNCloud SE API endpoints,
+	 * based on the given interval and jitter. Each cycle schedules the next one, so there's never more than one pending cycle.
+	 * When monitoring is paused the loader parks without a pending cycle and is resumed through {@link #wakeUp()}.
 	 *
 	 * @author Harry
 	 * @since 1.0.0
 	 */
 	class BrightSignBSNCloudDataLoader implements Runnable {
-		private volatile boolean inProgress;
-		private volatile boolean flag = false;
+		private final ScheduledExecutorService scheduler;
+		private ScheduledFuture<?> nextCycle;
+		private long firstCycleTimestamp;
+		private boolean collected;
+		private boolean inProgress;
+		private boolean cycleRunning;
 
-		public BrightSignBSNCloudDataLoader() {
+		/**
+		 * Create an instance of BrightSignBSNCloudDataLoader
+		 *
+		 * @param scheduler scheduler the collection cycles are executed on
+		 */
+		public BrightSignBSNCloudDataLoader(ScheduledExecutorService scheduler) {
+			this.scheduler = scheduler;
 			inProgress = true;
 		}
 
 		@Override
 		public void run() {
-			loop:
-			while (inProgress) {
-				try {
-					TimeUnit.MILLISECONDS.sleep(500);
-				} catch (InterruptedException e) {
-					logger.info(String.format("Sleep for 0.5 second was interrupted with error message: %s", e.getMessage()));
-				}
-
+			synchronized (this) {
 				if (!inProgress) {
-					break loop;
+					return;
 				}
-
+				cycleRunning = true;
+				nextCycle = null;
+			}
+			try {
 				// next line will determine whether BrightSign BSNCloud monitoring was paused
 				updateAggregatorStatus();
 				if (devicePaused) {
-					continue loop;
+					if (logger.isDebugEnabled()) {
+						logger.debug("Device statistics collection is paused until retrieveMultipleStatistics is called");
+					}
+					return;
 				}
 				if (logger.isDebugEnabled()) {
 					logger.debug("Fetching other than aggregated device list");
 				}
-				long currentTimestamp = System.currentTimeMillis();
-				if (!flag && nextDevicesCollectionIterationTimestamp <= currentTimestamp) {
-					populateDeviceDetails();
-					flag = true;
+				synchronized (this) {
+					collected = true;
 				}
-
-				while (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
-					try {
-						TimeUnit.MILLISECONDS.sleep(1000);
-					} catch (InterruptedException e) {
-						logger.info(String.format("Sleep for 1 second was interrupted with error message: %s", e.getMessage()));
+				long cycleStart = System.nanoTime();
+				cycleChangedDevices = 0;
+				populateDeviceDetails();
+				lastCycleDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - cycleStart);
+				int deviceCount = numberOfDevices > 0 ? numberOfDevices : cachedData.size();
+				pollingController.recordCycle(lastCycleDuration, deviceCount, cycleChangedDevices, pollingInterval, minPollingInterval, maxPollingInterval, apiBudgetFraction);
+				if (logger.isDebugEnabled()) {
+					logger.debug("Finished collecting devices statistics cycle at " + new Date());
+				}
+			} catch (Exception e) {
+				logger.error("Error while collecting devices statistics", e);
+			} finally {
+				synchronized (this) {
+					cycleRunning = false;
+					if (inProgress && !devicePaused) {
+						schedule(calculateNextCycleDelay());
 					}
 				}
+			}
+		}
 
-				if (!inProgress) {
-					break loop;
-				}
-				if (flag) {
-					nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + 30000;
-					flag = false;
-				}
+		/**
+		 * Schedules the first collection cycle
+		 *
+		 * @param delay delay in milliseconds
+		 */
+		public synchronized void start(long delay) {
+			firstCycleTimestamp = System.currentTimeMillis() + delay;
+			schedule(delay);
+		}
 
-				if (logger.isDebugEnabled()) {
-					logger.debug("Finished collecting devices statistics cycle at " + new Date());
-				}
+		/**
+		 * Resumes a parked loader. A loader paused after collecting runs its next cycle immediately.
+		 * A loader that never collected, because it starts paused until the first retrieveMultipleStatistics call,
+		 * waits for the next staggered start time of its slot so instances started together keep their offsets.
+		 * A running or pending cycle is left untouched, it collects the devices once monitoring is resumed.
+		 */
+		public synchronized void wakeUp() {
+			if (!isParked()) {
+				return;
+			}
+			long delay = 0;
+			long interval = getCurrentPollingInterval();
+			if (!collected && staggerCycles && interval > 0) {
+				delay = Math.floorMod(firstCycleTimestamp - System.currentTimeMillis(), interval);
 			}
-			// Finished collecting
+			schedule(delay);
+		}
+
+		/**
+		 * Checks whether the loader is parked without a pending collection cycle
+		 *
+		 * @return true if no cycle is running or pending
+		 */
+		public synchronized boolean isParked() {
+			return inProgress && !cycleRunning && nextCycle == null;
 		}
 
 		/**
-		 * Triggers main loop to stop
+		 * Cancels the pending cycle and stops scheduling new ones
 		 */
-		public void stop() {
+		public synchronized void stop() {
 			inProgress = false;
+			if (nextCycle != null) {
+				nextCycle.cancel(false);
+				nextCycle = null;
+			}
+		}
+
+		/**
+		 * Schedules the next collection cycle
+		 *
+		 * @param delay delay in milliseconds
+		 */
+		private void schedule(long delay) {
+			try {
+				nextCycle = scheduler.schedule(this, delay, TimeUnit.MILLISECONDS);
+			} catch (RejectedExecutionException e) {
+				logger.warn("Unable to schedule devices statistics collection, scheduler is shut down");
+			}
 		}
 	}
 
@@ -236,14 +487,6 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	 */
 	private volatile boolean devicePaused = true;
 
-	/**
-	 * We don't want the statistics to be collected constantly, because if there's not a big list of devices -
-	 * new devices' statistics loop will be launched before the next monitoring iteration. To avoid that -
-	 * this variable stores a timestamp which validates it, so when the devices' statistics is done collecting, variable
-	 * is set to currentTime + 30s, at the same time, calling {@link #retrieveMultipleStatistics()} and updating the
-	 */
-	private long nextDevicesCollectionIterationTimestamp;
-
 	/**
 	 * This parameter holds timestamp of when we need to stop performing API calls
 	 * It used when device stop retrieving statistic. Updated each time of called #retrieveMultipleStatistics
@@ -282,19 +525,62 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	ObjectMapper objectMapper = new ObjectMapper();
 
 	/**
-	 * Executor that runs all the async operations, that is posting and
+	 * Scheduler that runs the device collection cycles, created in {@link #internalInit()} and shut down in {@link #internalDestroy()}
+	 */
+	private ScheduledExecutorService executorService;
+
+	/**
+	 * Executor that runs the controls of {@link #controlProperties(List)} batches, created in {@link #internalInit()} and shut down in {@link #internalDestroy()}
+	 */
+	private ExecutorService controlExecutorService;
+
+	/**
+	 * Executor that runs the attempts of hedged GET requests and of HTTP pings, created in {@link #internalInit()} and shut down in {@link #internalDestroy()}
+	 */
+	private ExecutorService requestExecutorService;
+
+	/**
+	 * Executor that refreshes {@link #networkStatistics} and the authorization token in the background,
+	 * created in {@link #internalInit()} and shut down in {@link #internalDestroy()}
+	 */
+	private ScheduledExecutorService statisticsExecutorService;
+
+	/**
+	 * Monitored networks, the first one is the network of the login field or the first one of {@link #networks}.
+	 * Empty until {@link #initLoginInfo()} runs.
+	 */
+	private volatile List<NetworkContext> networkContexts = Collections.emptyList();
+
+	/**
+	 * Network the requests of the current thread are sent for, the first of {@link #networkContexts} when not set
+	 */
+	private final ThreadLocal<NetworkContext> currentNetwork = new ThreadLocal<>();
+
+	/**
+	 * Whether the current thread executes a control of a {@link #controlProperties(List)} batch,
+	 * such controls are executed in place so their results are collected by the batch
+	 */
+	private final ThreadLocal<Boolean> batchControl = new ThreadLocal<>();
+
+	/**
+	 * Comma separated names of the networks to monitor with the user of the login field, empty to monitor the network of the login field only
+	 */
+	private String networks;
+
+	/**
+	 * Number of aggregator instances the fleet is split between, 1 or less disables sharding
 	 */
-	private ExecutorService executorService;
+	private int shardCount = 1;
 
 	/**
-	 * the login info
+	 * Index of the shard monitored by this instance, in the [0, shardCount) range
 	 */
-	private LoginInfo loginInfo;
+	private int shardIndex = 0;
 
 	/**
-	 * the network name
+	 * Key the fleet is split on, see {@link ShardAssigner}
 	 */
-	private String networkName;
+	private ShardMode shardMode = ShardMode.PLAYER;
 
 	/**
 	 * A private field that represents an instance of the BrightSignBSNCloudLoader class, which is responsible for loading device data for BrightSign BSNCloud
@@ -302,21 +588,45 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	private BrightSignBSNCloudDataLoader deviceDataLoader;
 
 	/**
-	 * A private final ReentrantLock instance used to provide exclusive access to a shared resource
-	 * that can be accessed by multiple threads concurrently. This lock allows multiple reentrant
-	 * locks on the same shared resource by the same thread.
+	 * Locks serializing controls of the same device, keyed by device id
 	 */
-	private final ReentrantLock reentrantLock = new ReentrantLock();
+	private final Map<String, ReentrantLock> controlLocks = new ConcurrentHashMap<>();
+
+	/**
+	 * Id of the group selected in the aggregator level group reboot controls
+	 */
+	private volatile String selectedRebootGroupId;
+
+	/**
+	 * Status of the last control command per device id
+	 */
+	private final Map<String, ControlCommandStatus> commandStatuses = new ConcurrentHashMap<>();
+
+	/**
+	 * Latest network information, swapped as a whole by {@link #refreshNetworkStatistics()}
+	 */
+	private final RefreshingSnapshot<Map<String, String>> networkStatistics = new RefreshingSnapshot<>(this::refreshNetworkStatistics);
+
+	/**
+	 * Time the network information was last retrieved
+	 */
+	private volatile long networkInfoTimestamp;
+
+	/**
+	 * Time {@link #numberOfDevices} was last retrieved from the count endpoint or derived from a completed device list walk
+	 */
+	private volatile long deviceCountTimestamp;
 
 	/**
 	 * Private variable representing the local extended statistics.
 	 */
-	private ExtendedStatistics localExtendedStatistics;
+	private volatile ExtendedStatistics localExtendedStatistics;
 
 	/**
 	 * An instance of the AggregatedDeviceProcessor class used to process and aggregate device-related data.
+	 * Shared read-only between communicator instances
 	 */
-	private AggregatedDeviceProcessor aggregatedDeviceProcessor;
+	private final AggregatedDeviceProcessor aggregatedDeviceProcessor;
 
 	/**
 	 * List of aggregated device
@@ -324,9 +634,40 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	private List<AggregatedDevice> aggregatedDeviceList = Collections.synchronizedList(new ArrayList<>());
 
 	/**
-	 * cache data for aggregated
+	 * cache data for aggregated, keyed by device key, see {@link NetworkContext#createKey(String)}
+	 */
+	private final Map<String, AggregatedDevice> cachedData = new ConcurrentHashMap<>();
+
+	/**
+	 * Fleet summary counters, updated as devices are upserted into or removed from {@link #cachedData}
+	 */
+	private final FleetStatistics fleetStatistics = new FleetStatistics();
+
+	/**
+	 * Detects health changes and reboots as devices are upserted into {@link #cachedData}
+	 */
+	private final TransitionDetector transitionDetector = new TransitionDetector(10, 100);
+
+	/**
+	 * Version of each cached device, bumped from {@link #deviceVersionCounter} whenever a published property, the online state
+	 * or a detected transition changes, see {@link #hasPublishedChange(AggregatedDevice, AggregatedDevice)}
+	 */
+	private final Map<String, Long> deviceVersions = new ConcurrentHashMap<>();
+
+	/**
+	 * Source of the device versions
+	 */
+	private final AtomicLong deviceVersionCounter = new AtomicLong();
+
+	/**
+	 * Highest device version returned by the previous {@link #retrieveMultipleStatistics()} call
+	 */
+	private long lastPublishedVersion;
+
+	/**
+	 * Timestamp of the last full device list publish
 	 */
-	private List<AggregatedDevice> cachedData = Collections.synchronizedList(new ArrayList<>());
+	private long lastFullPublishTimestamp;
 
 	/**
 	 * ping mode
@@ -334,14 +675,14 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	private PingMode pingMode = PingMode.ICMP;
 
 	/**
-	 * number of devices
+	 * Host addresses resolved by the TCP ping
 	 */
-	private int numberOfDevices;
+	private final DnsCache dnsCache = new DnsCache();
 
 	/**
-	 * Next Marker
+	 * number of devices
 	 */
-	private String nextMarker;
+	private volatile int numberOfDevices;
 
 	/**
 	 * filter by group ID
@@ -359,110 +700,943 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	private String filterByModel;
 
 	/**
-	 * Retrieves {@link #filterByGroupID}
-	 *
-	 * @return value of {@link #filterByGroupID}
+	 * Interval in milliseconds between the end of a device collection cycle and the start of the next one
 	 */
-	public String getFilterByGroupID() {
-		return filterByGroupID;
-	}
+	private long pollingInterval = 30000;
 
 	/**
-	 * Sets {@link #filterByGroupID} value
-	 *
-	 * @param filterByStatus new value of {@link #filterByGroupID}
+	 * Maximum random delay in milliseconds added to {@link #pollingInterval}
 	 */
-	public void setFilterByGroupID(String filterByStatus) {
-		this.filterByGroupID = filterByStatus;
-	}
+	private long pollingJitter;
 
 	/**
-	 * Retrieves {@link #filterByGroupName}
-	 *
-	 * @return value of {@link #filterByGroupName}
+	 * Whether the first cycle is delayed so the cycles of the instances of the JVM are spread across {@link #pollingInterval},
+	 * see {@link CycleSlotCoordinator}. Disabled by default, so the first cycle of an upgraded instance still starts right away.
 	 */
-	public String getFilterByGroupName() {
-		return filterByGroupName;
-	}
+	private boolean staggerCycles;
 
 	/**
-	 * Sets {@link #filterByGroupName} value
-	 *
-	 * @param filterByGroupName new value of {@link #filterByGroupName}
+	 * Slot leased from {@link CycleSlotCoordinator}, {@link CycleSlotCoordinator#NO_SLOT} when the cycles are not staggered or no slot is free
 	 */
-	public void setFilterByGroupName(String filterByGroupName) {
-		this.filterByGroupName = filterByGroupName;
-	}
+	private volatile int cycleSlot = CycleSlotCoordinator.NO_SLOT;
 
 	/**
-	 * Retrieves {@link #filterByModel}
-	 *
-	 * @return value of {@link #filterByModel}
+	 * Delay in milliseconds of the first cycle after {@link #internalInit()}
 	 */
-	public String getFilterByModel() {
-		return filterByModel;
-	}
+	private volatile long cycleStartDelay;
 
 	/**
-	 * Sets {@link #filterByModel} value
+	 * Whether the polling interval is adapted to the fleet size, the cycle cost and the change rate
+	 */
+	private boolean adaptivePolling;
+
+	/**
+	 * Lower bound in milliseconds of the adaptive polling interval
+	 */
+	private long minPollingInterval = 10000;
+
+	/**
+	 * Upper bound in milliseconds of the adaptive polling interval and of the backoff after failed collection cycles
+	 */
+	private long maxPollingInterval = 10 * 60 * 1000;
+
+	/**
+	 * Share of time the adaptive polling is allowed to spend calling the API
+	 */
+	private double apiBudgetFraction = 0.25;
+
+	/**
+	 * Chooses the polling interval when {@link #adaptivePolling} is enabled
+	 */
+	private final AdaptivePollingController pollingController = new AdaptivePollingController();
+
+	/**
+	 * Chooses the page size of the device list requests
+	 */
+	private final AdaptivePageSizeController pageSizeController = new AdaptivePageSizeController();
+
+	/**
+	 * Minimum number of devices requested per page
+	 */
+	private int minPageSize = 25;
+
+	/**
+	 * Maximum number of devices requested per page
+	 */
+	private int maxPageSize = 1000;
+
+	/**
+	 * Response time in milliseconds above which the device pages shrink
+	 */
+	private long pageTargetLatency = 10 * 1000;
+
+	/**
+	 * Response payload size in bytes above which the device pages shrink, 0 or less for no limit
+	 */
+	private long maxPageBytes = 4 * 1024 * 1024;
+
+	/**
+	 * Duration in milliseconds of the last device collection cycle
+	 */
+	private volatile long lastCycleDuration;
+
+	/**
+	 * Number of devices whose published state changed during the current device collection cycle, per-poll counters excluded
+	 */
+	private volatile int cycleChangedDevices;
+
+	/**
+	 * Number of consecutive failed device collection cycles, the loader backs off exponentially while it is above 0
+	 */
+	private volatile int consecutiveCycleFailures;
+
+	/**
+	 * Time of the last successful device collection cycle
+	 */
+	private volatile long lastSuccessfulCycleTimestamp;
+
+	/**
+	 * Time each cached device was last received from BSN.cloud, keyed by device id
+	 */
+	private final Map<String, Long> deviceUpdateTimestamps = new ConcurrentHashMap<>();
+
+	/**
+	 * Short-circuits requests during sustained BSN.cloud outages
+	 */
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+	/**
+	 * Number of consecutive failed requests that opens {@link #circuitBreaker}
+	 */
+	private int circuitBreakerThreshold = 5;
+
+	/**
+	 * Time in milliseconds {@link #circuitBreaker} stays open before a trial request is sent
+	 */
+	private long circuitBreakerOpenTime = 60 * 1000;
+
+	/**
+	 * Retrieves {@link #circuitBreakerThreshold}
 	 *
-	 * @param filterByModel new value of {@link #filterByModel}
+	 * @return value of {@link #circuitBreakerThreshold}
 	 */
-	public void setFilterByModel(String filterByModel) {
-		this.filterByModel = filterByModel;
+	public int getCircuitBreakerThreshold() {
+		return circuitBreakerThreshold;
 	}
 
 	/**
-	 * Retrieves {@link #pingMode}
+	 * Sets {@link #circuitBreakerThreshold} value
 	 *
-	 * @return value of {@link #pingMode}
+	 * @param circuitBreakerThreshold new value of {@link #circuitBreakerThreshold}
 	 */
-	public String getPingMode() {
-		return pingMode.name();
+	public void setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+		this.circuitBreakerThreshold = circuitBreakerThreshold;
 	}
 
 	/**
-	 * Sets {@link #pingMode} value
+	 * Retrieves {@link #circuitBreakerOpenTime}
 	 *
-	 * @param pingMode new value of {@link #pingMode}
+	 * @return value of {@link #circuitBreakerOpenTime}
 	 */
-	public void setPingMode(String pingMode) {
-		this.pingMode = PingMode.ofString(pingMode);
+	public long getCircuitBreakerOpenTime() {
+		return circuitBreakerOpenTime;
 	}
 
 	/**
-	 * Constructs a new instance of BrightSignBSNCloudCommunicator.
+	 * Sets {@link #circuitBreakerOpenTime} value
 	 *
-	 * @throws IOException If an I/O error occurs while loading the properties mapping YAML file.
+	 * @param circuitBreakerOpenTime new value of {@link #circuitBreakerOpenTime}
 	 */
-	public BrightSignBSNCloudCommunicator() throws IOException {
-		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(BrightSignBSNCloudConstant.MODEL_MAPPING_AGGREGATED_DEVICE, getClass());
-		aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
-		this.setTrustAllCertificates(true);
+	public void setCircuitBreakerOpenTime(long circuitBreakerOpenTime) {
+		this.circuitBreakerOpenTime = circuitBreakerOpenTime;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * <p>
-	 *
-	 * Check for available devices before retrieving the value
-	 * ping latency information to Symphony
+	 * Duplicates slow polling GET requests when {@link #hedgeRequests} is enabled
 	 */
-	@Override
-	public int ping() throws Exception {
-		if (this.pingMode == PingMode.ICMP) {
-			return super.ping();
+	private final RequestHedger requestHedger = new RequestHedger();
+
+	/**
+	 * Whether a polling GET request slower than {@link #hedgePercentile} of the recent latencies of its endpoint is sent a second time
+	 */
+	private boolean hedgeRequests = false;
+
+	/**
+	 * Percentile of the recent latencies after which a polling GET request is duplicated
+	 */
+	private double hedgePercentile = 95;
+
+	/**
+	 * Maximum share of polling GET requests, in percent, that may be duplicated
+	 */
+	private double hedgeBudget = 5;
+
+	/**
+	 * Retrieves {@link #hedgeRequests}
+	 *
+	 * @return value of {@link #hedgeRequests}
+	 */
+	public boolean isHedgeRequests() {
+		return hedgeRequests;
+	}
+
+	/**
+	 * Sets {@link #hedgeRequests} value
+	 *
+	 * @param hedgeRequests new value of {@link #hedgeRequests}
+	 */
+	public void setHedgeRequests(boolean hedgeRequests) {
+		this.hedgeRequests = hedgeRequests;
+	}
+
+	/**
+	 * Retrieves {@link #hedgePercentile}
+	 *
+	 * @return value of {@link #hedgePercentile}
+	 */
+	public double getHedgePercentile() {
+		return hedgePercentile;
+	}
+
+	/**
+	 * Sets {@link #hedgePercentile} value
+	 *
+	 * @param hedgePercentile new value of {@link #hedgePercentile}
+	 */
+	public void setHedgePercentile(double hedgePercentile) {
+		this.hedgePercentile = hedgePercentile;
+	}
+
+	/**
+	 * Retrieves {@link #hedgeBudget}
+	 *
+	 * @return value of {@link #hedgeBudget}
+	 */
+	public double getHedgeBudget() {
+		return hedgeBudget;
+	}
+
+	/**
+	 * Sets {@link #hedgeBudget} value
+	 *
+	 * @param hedgeBudget new value of {@link #hedgeBudget}
+	 */
+	public void setHedgeBudget(double hedgeBudget) {
+		this.hedgeBudget = hedgeBudget;
+	}
+
+	/**
+	 * Limits the rate of every outgoing request, see {@link #executeRequest(RequestPriority, Callable)}
+	 */
+	private final ApiRateLimiter rateLimiter = new ApiRateLimiter();
+
+	/**
+	 * Coalesces concurrent identical GET requests
+	 */
+	private final SingleFlight singleFlight = new SingleFlight();
+
+	/**
+	 * Counts requests, reused pooled connections and response bytes of the HTTP client
+	 */
+	private final HttpRequestMetrics httpRequestMetrics = new HttpRequestMetrics();
+
+	/**
+	 * HTTP client created by the last {@link #obtainHttpClient(boolean)} call
+	 */
+	private volatile HttpClient httpClient;
+
+	/**
+	 * Rest template whose HTTP client is already wrapped with {@link #httpRequestMetrics}
+	 */
+	private volatile RestTemplate meteredRestTemplate;
+
+	/**
+	 * Number of requests per second allowed by {@link #rateLimiter}, 0 or less disables the limit.
+	 * The limit is opt-in, so upgraded deployments keep their request rate until it is configured.
+	 */
+	private double apiRequestsPerSecond;
+
+	/**
+	 * Number of requests {@link #rateLimiter} allows in a burst, used once {@link #apiRequestsPerSecond} is set
+	 */
+	private int apiBurstSize = 10;
+
+	/**
+	 * Maximum time in milliseconds a request waits for {@link #rateLimiter} before it is rejected
+	 */
+	private long apiRateLimitMaxWait = 60000;
+
+	/**
+	 * Retrieves {@link #apiRequestsPerSecond}
+	 *
+	 * @return value of {@link #apiRequestsPerSecond}
+	 */
+	public double getApiRequestsPerSecond() {
+		return apiRequestsPerSecond;
+	}
+
+	/**
+	 * Sets {@link #apiRequestsPerSecond} value
+	 *
+	 * @param apiRequestsPerSecond new value of {@link #apiRequestsPerSecond}
+	 */
+	public void setApiRequestsPerSecond(double apiRequestsPerSecond) {
+		this.apiRequestsPerSecond = apiRequestsPerSecond;
+	}
+
+	/**
+	 * Retrieves {@link #apiBurstSize}
+	 *
+	 * @return value of {@link #apiBurstSize}
+	 */
+	public int getApiBurstSize() {
+		return apiBurstSize;
+	}
+
+	/**
+	 * Sets {@link #apiBurstSize} value
+	 *
+	 * @param apiBurstSize new value of {@link #apiBurstSize}
+	 */
+	public void setApiBurstSize(int apiBurstSize) {
+		this.apiBurstSize = apiBurstSize;
+	}
+
+	/**
+	 * Retrieves {@link #apiRateLimitMaxWait}
+	 *
+	 * @return value of {@link #apiRateLimitMaxWait}
+	 */
+	public long getApiRateLimitMaxWait() {
+		return apiRateLimitMaxWait;
+	}
+
+	/**
+	 * Sets {@link #apiRateLimitMaxWait} value
+	 *
+	 * @param apiRateLimitMaxWait new value of {@link #apiRateLimitMaxWait}
+	 */
+	public void setApiRateLimitMaxWait(long apiRateLimitMaxWait) {
+		this.apiRateLimitMaxWait = apiRateLimitMaxWait;
+	}
+
+	/**
+	 * Whether controls are acknowledged immediately and executed in the background, with retries.
+	 * Disabled by default so a failed control is reported to the caller of {@link #controlProperty(ControllableProperty)}
+	 */
+	private boolean asyncControl;
+
+	/**
+	 * Number of times a failed asynchronous control is retried
+	 */
+	private int controlRetries = 2;
+
+	/**
+	 * Delay in milliseconds before the first retry of a failed asynchronous control, multiplied by the attempt number afterward
+	 */
+	private long controlRetryDelay = 2000;
+
+	/**
+	 * Retrieves {@link #asyncControl}
+	 *
+	 * @return value of {@link #asyncControl}
+	 */
+	public boolean isAsyncControl() {
+		return asyncControl;
+	}
+
+	/**
+	 * Sets {@link #asyncControl} value
+	 *
+	 * @param asyncControl new value of {@link #asyncControl}
+	 */
+	public void setAsyncControl(boolean asyncControl) {
+		this.asyncControl = asyncControl;
+	}
+
+	/**
+	 * Retrieves {@link #controlRetries}
+	 *
+	 * @return value of {@link #controlRetries}
+	 */
+	public int getControlRetries() {
+		return controlRetries;
+	}
+
+	/**
+	 * Sets {@link #controlRetries} value
+	 *
+	 * @param controlRetries new value of {@link #controlRetries}
+	 */
+	public void setControlRetries(int controlRetries) {
+		this.controlRetries = controlRetries;
+	}
+
+	/**
+	 * Retrieves {@link #controlRetryDelay}
+	 *
+	 * @return value of {@link #controlRetryDelay}
+	 */
+	public long getControlRetryDelay() {
+		return controlRetryDelay;
+	}
+
+	/**
+	 * Sets {@link #controlRetryDelay} value
+	 *
+	 * @param controlRetryDelay new value of {@link #controlRetryDelay}
+	 */
+	public void setControlRetryDelay(long controlRetryDelay) {
+		this.controlRetryDelay = controlRetryDelay;
+	}
+
+	/**
+	 * Maximum number of controls of a {@link #controlProperties(List)} batch executed at the same time
+	 */
+	private int controlParallelism = 8;
+
+	/**
+	 * Retrieves {@link #controlParallelism}
+	 *
+	 * @return value of {@link #controlParallelism}
+	 */
+	public int getControlParallelism() {
+		return controlParallelism;
+	}
+
+	/**
+	 * Sets {@link #controlParallelism} value
+	 *
+	 * @param controlParallelism new value of {@link #controlParallelism}
+	 */
+	public void setControlParallelism(int controlParallelism) {
+		this.controlParallelism = controlParallelism;
+	}
+
+	/**
+	 * Retrieves {@link #adaptivePolling}
+	 *
+	 * @return value of {@link #adaptivePolling}
+	 */
+	public boolean isAdaptivePolling() {
+		return adaptivePolling;
+	}
+
+	/**
+	 * Sets {@link #adaptivePolling} value
+	 *
+	 * @param adaptivePolling new value of {@link #adaptivePolling}
+	 */
+	public void setAdaptivePolling(boolean adaptivePolling) {
+		this.adaptivePolling = adaptivePolling;
+	}
+
+	/**
+	 * Retrieves {@link #minPollingInterval}
+	 *
+	 * @return value of {@link #minPollingInterval}
+	 */
+	public long getMinPollingInterval() {
+		return minPollingInterval;
+	}
+
+	/**
+	 * Sets {@link #minPollingInterval} value
+	 *
+	 * @param minPollingInterval new value of {@link #minPollingInterval}
+	 */
+	public void setMinPollingInterval(long minPollingInterval) {
+		this.minPollingInterval = minPollingInterval;
+	}
+
+	/**
+	 * Retrieves {@link #maxPollingInterval}
+	 *
+	 * @return value of {@link #maxPollingInterval}
+	 */
+	public long getMaxPollingInterval() {
+		return maxPollingInterval;
+	}
+
+	/**
+	 * Sets {@link #maxPollingInterval} value
+	 *
+	 * @param maxPollingInterval new value of {@link #maxPollingInterval}
+	 */
+	public void setMaxPollingInterval(long maxPollingInterval) {
+		this.maxPollingInterval = maxPollingInterval;
+	}
+
+	/**
+	 * Retrieves {@link #apiBudgetFraction}
+	 *
+	 * @return value of {@link #apiBudgetFraction}
+	 */
+	public double getApiBudgetFraction() {
+		return apiBudgetFraction;
+	}
+
+	/**
+	 * Sets {@link #apiBudgetFraction} value
+	 *
+	 * @param apiBudgetFraction new value of {@link #apiBudgetFraction}
+	 */
+	public void setApiBudgetFraction(double apiBudgetFraction) {
+		this.apiBudgetFraction = apiBudgetFraction;
+	}
+
+	/**
+	 * Retrieves {@link #minPageSize}
+	 *
+	 * @return value of {@link #minPageSize}
+	 */
+	public int getMinPageSize() {
+		return minPageSize;
+	}
+
+	/**
+	 * Sets {@link #minPageSize} value
+	 *
+	 * @param minPageSize new value of {@link #minPageSize}
+	 */
+	public void setMinPageSize(int minPageSize) {
+		this.minPageSize = minPageSize;
+	}
+
+	/**
+	 * Retrieves {@link #maxPageSize}
+	 *
+	 * @return value of {@link #maxPageSize}
+	 */
+	public int getMaxPageSize() {
+		return maxPageSize;
+	}
+
+	/**
+	 * Sets {@link #maxPageSize} value
+	 *
+	 * @param maxPageSize new value of {@link #maxPageSize}
+	 */
+	public void setMaxPageSize(int maxPageSize) {
+		this.maxPageSize = maxPageSize;
+	}
+
+	/**
+	 * Retrieves {@link #pageTargetLatency}
+	 *
+	 * @return value of {@link #pageTargetLatency}
+	 */
+	public long getPageTargetLatency() {
+		return pageTargetLatency;
+	}
+
+	/**
+	 * Sets {@link #pageTargetLatency} value
+	 *
+	 * @param pageTargetLatency new value of {@link #pageTargetLatency}
+	 */
+	public void setPageTargetLatency(long pageTargetLatency) {
+		this.pageTargetLatency = pageTargetLatency;
+	}
+
+	/**
+	 * Retrieves {@link #maxPageBytes}
+	 *
+	 * @return value of {@link #maxPageBytes}
+	 */
+	public long getMaxPageBytes() {
+		return maxPageBytes;
+	}
+
+	/**
+	 * Sets {@link #maxPageBytes} value
+	 *
+	 * @param maxPageBytes new value of {@link #maxPageBytes}
+	 */
+	public void setMaxPageBytes(long maxPageBytes) {
+		this.maxPageBytes = maxPageBytes;
+	}
+
+	/**
+	 * Retrieves {@link #pollingInterval}
+	 *
+	 * @return value of {@link #pollingInterval}
+	 */
+	public long getPollingInterval() {
+		return pollingInterval;
+	}
+
+	/**
+	 * Sets {@link #pollingInterval} value
+	 *
+	 * @param pollingInterval new value of {@link #pollingInterval}
+	 */
+	public void setPollingInterval(long pollingInterval) {
+		this.pollingInterval = pollingInterval;
+	}
+
+	/**
+	 * Retrieves {@link #pollingJitter}
+	 *
+	 * @return value of {@link #pollingJitter}
+	 */
+	public long getPollingJitter() {
+		return pollingJitter;
+	}
+
+	/**
+	 * Sets {@link #pollingJitter} value
+	 *
+	 * @param pollingJitter new value of {@link #pollingJitter}
+	 */
+	public void setPollingJitter(long pollingJitter) {
+		this.pollingJitter = pollingJitter;
+	}
+
+	/**
+	 * Retrieves {@link #staggerCycles}
+	 *
+	 * @return value of {@link #staggerCycles}
+	 */
+	public boolean isStaggerCycles() {
+		return staggerCycles;
+	}
+
+	/**
+	 * Sets {@link #staggerCycles} value
+	 *
+	 * @param staggerCycles new value of {@link #staggerCycles}
+	 */
+	public void setStaggerCycles(boolean staggerCycles) {
+		this.staggerCycles = staggerCycles;
+	}
+
+	/**
+	 * Whether per-group aggregate pseudo-devices are emitted along with the players
+	 */
+	private boolean displayGroupAggregates;
+
+	/**
+	 * Whether {@link #retrieveMultipleStatistics()} returns only the devices changed since the previous call
+	 */
+	private boolean deltaPublish;
+
+	/**
+	 * Interval in milliseconds between full device list publishes when {@link #deltaPublish} is enabled
+	 */
+	private long fullPublishInterval = 10 * 60 * 1000;
+
+	/**
+	 * Retrieves {@link #deltaPublish}
+	 *
+	 * @return value of {@link #deltaPublish}
+	 */
+	public boolean isDeltaPublish() {
+		return deltaPublish;
+	}
+
+	/**
+	 * Sets {@link #deltaPublish} value
+	 *
+	 * @param deltaPublish new value of {@link #deltaPublish}
+	 */
+	public void setDeltaPublish(boolean deltaPublish) {
+		this.deltaPublish = deltaPublish;
+	}
+
+	/**
+	 * Retrieves {@link #fullPublishInterval}
+	 *
+	 * @return value of {@link #fullPublishInterval}
+	 */
+	public long getFullPublishInterval() {
+		return fullPublishInterval;
+	}
+
+	/**
+	 * Sets {@link #fullPublishInterval} value
+	 *
+	 * @param fullPublishInterval new value of {@link #fullPublishInterval}
+	 */
+	public void setFullPublishInterval(long fullPublishInterval) {
+		this.fullPublishInterval = fullPublishInterval;
+	}
+
+	/**
+	 * Time in milliseconds the network information is reused before it is fetched again
+	 */
+	private long networkInfoTtl = 10 * 60 * 1000;
+
+	/**
+	 * Time in milliseconds the number of devices is reused before it is fetched again,
+	 * a completed device list walk also renews it
+	 */
+	private long deviceCountTtl = 60 * 1000;
+
+	/**
+	 * Time in milliseconds the groups of a network are reused before they are fetched again,
+	 * the groups resolve {@link #filterByGroupName} to group ids and split the fleet when sharding by group
+	 */
+	private long groupsTtl = 10 * 60 * 1000;
+
+	/**
+	 * Retrieves {@link #networkInfoTtl}
+	 *
+	 * @return value of {@link #networkInfoTtl}
+	 */
+	public long getNetworkInfoTtl() {
+		return networkInfoTtl;
+	}
+
+	/**
+	 * Sets {@link #networkInfoTtl} value
+	 *
+	 * @param networkInfoTtl new value of {@link #networkInfoTtl}
+	 */
+	public void setNetworkInfoTtl(long networkInfoTtl) {
+		this.networkInfoTtl = networkInfoTtl;
+	}
+
+	/**
+	 * Retrieves {@link #deviceCountTtl}
+	 *
+	 * @return value of {@link #deviceCountTtl}
+	 */
+	public long getDeviceCountTtl() {
+		return deviceCountTtl;
+	}
+
+	/**
+	 * Sets {@link #deviceCountTtl} value
+	 *
+	 * @param deviceCountTtl new value of {@link #deviceCountTtl}
+	 */
+	public void setDeviceCountTtl(long deviceCountTtl) {
+		this.deviceCountTtl = deviceCountTtl;
+	}
+
+	/**
+	 * Retrieves {@link #groupsTtl}
+	 *
+	 * @return value of {@link #groupsTtl}
+	 */
+	public long getGroupsTtl() {
+		return groupsTtl;
+	}
+
+	/**
+	 * Sets {@link #groupsTtl} value
+	 *
+	 * @param groupsTtl new value of {@link #groupsTtl}
+	 */
+	public void setGroupsTtl(long groupsTtl) {
+		this.groupsTtl = groupsTtl;
+	}
+
+	/**
+	 * Retrieves {@link #displayGroupAggregates}
+	 *
+	 * @return value of {@link #displayGroupAggregates}
+	 */
+	public boolean isDisplayGroupAggregates() {
+		return displayGroupAggregates;
+	}
+
+	/**
+	 * Sets {@link #displayGroupAggregates} value
+	 *
+	 * @param displayGroupAggregates new value of {@link #displayGroupAggregates}
+	 */
+	public void setDisplayGroupAggregates(boolean displayGroupAggregates) {
+		this.displayGroupAggregates = displayGroupAggregates;
+	}
+
+	/**
+	 * Retrieves {@link #filterByGroupID}
+	 *
+	 * @return value of {@link #filterByGroupID}
+	 */
+	public String getFilterByGroupID() {
+		return filterByGroupID;
+	}
+
+	/**
+	 * Sets {@link #filterByGroupID} value
+	 *
+	 * @param filterByStatus new value of {@link #filterByGroupID}
+	 */
+	public void setFilterByGroupID(String filterByStatus) {
+		this.filterByGroupID = filterByStatus;
+	}
+
+	/**
+	 * Retrieves {@link #filterByGroupName}
+	 *
+	 * @return value of {@link #filterByGroupName}
+	 */
+	public String getFilterByGroupName() {
+		return filterByGroupName;
+	}
+
+	/**
+	 * Sets {@link #filterByGroupName} value
+	 *
+	 * @param filterByGroupName new value of {@link #filterByGroupName}
+	 */
+	public void setFilterByGroupName(String filterByGroupName) {
+		this.filterByGroupName = filterByGroupName;
+	}
+
+	/**
+	 * Retrieves {@link #filterByModel}
+	 *
+	 * @return value of {@link #filterByModel}
+	 */
+	public String getFilterByModel() {
+		return filterByModel;
+	}
+
+	/**
+	 * Sets {@link #filterByModel} value
+	 *
+	 * @param filterByModel new value of {@link #filterByModel}
+	 */
+	public void setFilterByModel(String filterByModel) {
+		this.filterByModel = filterByModel;
+	}
+
+	/**
+	 * Retrieves {@link #networks}
+	 *
+	 * @return value of {@link #networks}
+	 */
+	public String getNetworks() {
+		return networks;
+	}
+
+	/**
+	 * Sets {@link #networks} value
+	 *
+	 * @param networks new value of {@link #networks}
+	 */
+	public void setNetworks(String networks) {
+		this.networks = networks;
+	}
+
+	/**
+	 * Retrieves {@link #shardCount}
+	 *
+	 * @return value of {@link #shardCount}
+	 */
+	public int getShardCount() {
+		return shardCount;
+	}
+
+	/**
+	 * Sets {@link #shardCount} value
+	 *
+	 * @param shardCount new value of {@link #shardCount}
+	 */
+	public void setShardCount(int shardCount) {
+		this.shardCount = shardCount;
+	}
+
+	/**
+	 * Retrieves {@link #shardIndex}
+	 *
+	 * @return value of {@link #shardIndex}
+	 */
+	public int getShardIndex() {
+		return shardIndex;
+	}
+
+	/**
+	 * Sets {@link #shardIndex} value
+	 *
+	 * @param shardIndex new value of {@link #shardIndex}
+	 */
+	public void setShardIndex(int shardIndex) {
+		this.shardIndex = shardIndex;
+	}
+
+	/**
+	 * Retrieves {@link #shardMode}
+	 *
+	 * @return value of {@link #shardMode}
+	 */
+	public String getShardMode() {
+		return shardMode.getName();
+	}
+
+	/**
+	 * Sets {@link #shardMode} value
+	 *
+	 * @param shardMode new value of {@link #shardMode}
+	 */
+	public void setShardMode(String shardMode) {
+		this.shardMode = ShardMode.ofString(shardMode);
+	}
+
+	/**
+	 * Retrieves {@link #pingMode}
+	 *
+	 * @return value of {@link #pingMode}
+	 */
+	public String getPingMode() {
+		return pingMode.name();
+	}
+
+	/**
+	 * Sets {@link #pingMode} value
+	 *
+	 * @param pingMode new value of {@link #pingMode}
+	 */
+	public void setPingMode(String pingMode) {
+		this.pingMode = PingMode.ofString(pingMode);
+	}
+
+	/**
+	 * Constructs a new instance of BrightSignBSNCloudCommunicator.
+	 *
+	 * The properties mapping is shared JVM-wide through {@link ModelMappingCache}.
+	 * Connections to BSN.cloud are pooled and kept alive between requests, idle ones are evicted after a minute.
+	 * The pool settings can still be overridden through the HttpCommunicator configuration properties.
+	 *
+	 * @throws IOException If an I/O error occurs while loading the properties mapping YAML file.
+	 */
+	public BrightSignBSNCloudCommunicator() throws IOException {
+		aggregatedDeviceProcessor = ModelMappingCache.getProcessor(BrightSignBSNCloudConstant.MODEL_MAPPING_AGGREGATED_DEVICE, getClass());
+		this.setTrustAllCertificates(true);
+		this.setMaxConnectionsPerRoute(BrightSignBSNCloudConstant.DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+		this.setMaxConnectionsTotal(BrightSignBSNCloudConstant.DEFAULT_MAX_CONNECTIONS_TOTAL);
+		this.setEvictExpiredConnections(true);
+		this.setEvictIdleConnections(true);
+		this.setConnectionsMaxIdleTime(BrightSignBSNCloudConstant.DEFAULT_CONNECTIONS_MAX_IDLE_TIME);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Check for available devices before retrieving the value
+	 * ping latency information to Symphony
+	 */
+	@Override
+	public int ping() throws Exception {
+		if (this.pingMode == PingMode.ICMP) {
+			return super.ping();
 		} else if (this.pingMode == PingMode.TCP) {
 			if (isInitialized()) {
 				long pingResultTotal = 0L;
 
 				for (int i = 0; i < this.getPingAttempts(); i++) {
-					long startTime = System.currentTimeMillis();
-
-					try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
+					try (Socket puSocketConnection = new Socket()) {
+						InetAddress address = dnsCache.resolve(this.host, BrightSignBSNCloudConstant.DNS_CACHE_TTL);
+						long startTime = System.nanoTime();
+						puSocketConnection.connect(new InetSocketAddress(address, this.getPort()), this.getPingTimeout());
 						puSocketConnection.setSoTimeout(this.getPingTimeout());
 						if (puSocketConnection.isConnected()) {
-							long pingResult = System.currentTimeMillis() - startTime;
+							long pingResult = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
 							pingResultTotal += pingResult;
 							if (this.logger.isTraceEnabled()) {
 								this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
@@ -488,33 +1662,135 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 			} else {
 				throw new IllegalStateException("Cannot use device class without calling init() first");
 			}
+		} else if (this.pingMode == PingMode.HTTP) {
+			if (isInitialized()) {
+				return httpPing();
+			} else {
+				throw new IllegalStateException("Cannot use device class without calling init() first");
+			}
 		} else {
 			throw new IllegalArgumentException("Unknown PING Mode: " + pingMode);
 		}
 	}
 
 
+	/**
+	 * Measures the HTTPS round trip to the BSN API the way polling experiences it: all attempts are sent concurrently
+	 * as {@code HEAD} requests over the pooled keep-alive connections of the HTTP client, and timed with {@link System#nanoTime()}.
+	 * Any response status counts as a completed round trip. The host is resolved through {@link #dnsCache}, as for the TCP ping,
+	 * and the requests target the resolved address, so a new connection of the pool does not resolve the host again.
+	 *
+	 * @return median latency of the completed attempts in milliseconds, or the ping timeout if none completed in time
+	 * @throws Exception if the host cannot be resolved
+	 */
+	private int httpPing() throws Exception {
+		obtainRestTemplate();
+		HttpClient client = httpClient;
+		ExecutorService executor = requestExecutorService;
+		if (client == null || executor == null) {
+			throw new IllegalStateException("Cannot use device class without calling init() first");
+		}
+		String url = getProtocol() + "://" + host + ":" + getPort() + "/";
+		InetAddress address = dnsCache.resolve(host, BrightSignBSNCloudConstant.DNS_CACHE_TTL);
+		HttpHost target = new HttpHost(address, host, getPort(), getProtocol());
+		int timeout = getPingTimeout();
+		List<Future<Long>> attempts = new ArrayList<>();
+		for (int i = 0; i < Math.max(1, getPingAttempts()); i++) {
+			attempts.add(executor.submit(() -> probe(client, target, timeout)));
+		}
+		List<Long> latencies = new ArrayList<>();
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		try {
+			for (Future<Long> attempt : attempts) {
+				try {
+					latencies.add(attempt.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+				} catch (TimeoutException e) {
+					if (this.logger.isDebugEnabled()) {
+						this.logger.debug(String.format("PING TIMEOUT: HTTP request to %s did not complete within %s ms", url, timeout));
+					}
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof UnknownHostException) {
+						throw new UnknownHostException(String.format("Connection timed out, UNKNOWN host %s", host));
+					}
+					if (this.logger.isWarnEnabled()) {
+						this.logger.warn(String.format("PING FAILED: HTTP request to %s did not succeed: %s", url, e.getCause().getMessage()));
+					}
+				}
+			}
+		} finally {
+			for (Future<Long> attempt : attempts) {
+				attempt.cancel(true);
+			}
+		}
+		if (latencies.isEmpty()) {
+			return timeout;
+		}
+		Collections.sort(latencies);
+		long median = latencies.get(latencies.size() / 2);
+		if (this.logger.isTraceEnabled()) {
+			this.logger.trace(String.format("PING OK: %s of %s HTTP requests to %s succeeded, median %s us", latencies.size(), attempts.size(), url, median));
+		}
+		return (int) Math.max(1, Math.min(timeout, Math.round(median / 1000.0)));
+	}
+
+	/**
+	 * Sends a single {@code HEAD} request and releases its connection back to the pool
+	 *
+	 * @param client pooled HTTP client
+	 * @param target host of the request, with its resolved address
+	 * @param timeout connect, socket and pool lease timeout in milliseconds
+	 * @return round trip time in microseconds
+	 * @throws IOException if the request fails
+	 */
+	private long probe(HttpClient client, HttpHost target, int timeout) throws IOException {
+		HttpHead request = new HttpHead("/");
+		request.setConfig(RequestConfig.custom().setConnectTimeout(timeout).setSocketTimeout(timeout).setConnectionRequestTimeout(timeout).build());
+		long start = System.nanoTime();
+		HttpResponse response = client.execute(target, request);
+		long latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+		EntityUtils.consumeQuietly(response.getEntity());
+		return latency;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public List<Statistics> getMultipleStatistics() throws Exception {
-		reentrantLock.lock();
+		if (networkContexts.isEmpty()) {
+			initLoginInfo();
+		}
+		long now = System.currentTimeMillis();
+		boolean stale = now - networkInfoTimestamp >= networkInfoTtl || now - deviceCountTimestamp >= deviceCountTtl
+				|| networkContexts.stream().anyMatch(network -> network.getLoginInfo().getState().isTimeout());
+		Map<String, String> statistics = new HashMap<>();
 		try {
-			if (loginInfo == null) {
-				loginInfo = new LoginInfo();
+			// the last loaded network information is served while refreshes fail
+			statistics.putAll(networkStatistics.get(statisticsExecutorService, stale));
+		} catch (Exception e) {
+			// nothing was loaded yet, the failure is reported with the statistics below, which do not depend on the network information
+		}
+		populateNetworkInfoStatus(statistics);
+		statistics.put("NumberOfDevices", String.valueOf(numberOfDevices));
+		List<NetworkContext> contexts = networkContexts;
+		if (contexts.size() > 1) {
+			for (NetworkContext network : contexts) {
+				statistics.put("Networks#" + network.getName(), String.valueOf(network.getDeviceCount()));
 			}
-			checkAuthentication();
-			Map<String, String> statistics = new HashMap<>();
-			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-			populateNetworkInfo(statistics);
-			populateNumberOfDevice(statistics);
-			extendedStatistics.setStatistics(statistics);
-			localExtendedStatistics = extendedStatistics;
-		} finally {
-			reentrantLock.unlock();
 		}
-		return Collections.singletonList(localExtendedStatistics);
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		populateFleetStatistics(statistics);
+		populateFleetTransitions(statistics);
+		populatePollingStatistics(statistics);
+		populateRateLimiterStatistics(statistics);
+		populateRequestStatistics(statistics);
+		populateShardingStatistics(statistics);
+		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+		populateGroupRebootControls(statistics, advancedControllableProperties);
+		extendedStatistics.setStatistics(statistics);
+		extendedStatistics.setControllableProperties(advancedControllableProperties);
+		localExtendedStatistics = extendedStatistics;
+		return Collections.singletonList(extendedStatistics);
 	}
 
 	/**
@@ -522,72 +1798,268 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	 */
 	@Override
 	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		reentrantLock.lock();
-		try {
-			String property = controllableProperty.getProperty();
-			String deviceId = controllableProperty.getDeviceId();
+		String property = controllableProperty.getProperty();
+		String deviceId = controllableProperty.getDeviceId();
 
-			String[] propertyList = property.split(BrightSignBSNCloudConstant.HASH);
-			String propertyName = property;
-			if (property.contains(BrightSignBSNCloudConstant.HASH)) {
-				propertyName = propertyList[1];
+		String[] propertyList = property.split(BrightSignBSNCloudConstant.HASH);
+		String propertyName = property;
+		if (property.contains(BrightSignBSNCloudConstant.HASH)) {
+			propertyName = propertyList[1];
+		}
+		if (BrightSignBSNCloudConstant.GROUP_REBOOT.equals(propertyList[0]) && property.contains(BrightSignBSNCloudConstant.HASH)) {
+			controlGroupReboot(propertyName, String.valueOf(controllableProperty.getValue()));
+			return;
+		}
+		Optional<AggregatedDevice> aggregatedDevice = Optional.ofNullable(deviceId).map(cachedData::get);
+		if (!aggregatedDevice.isPresent()) {
+			throw new IllegalStateException(String.format("Unable to control property: %s as the device does not exist.", property));
+		}
+		String deviceSerial = aggregatedDevice.get().getProperties().get(AggregatedInformation.PLAYER_ID.getName());
+		if (StringUtils.isNullOrEmpty(deviceSerial)) {
+			throw new IllegalArgumentException(String.format("Unable to control property: %s as the device serial not found.", property));
+		}
+		if (!BrightSignBSNCloudConstant.REBOOT_PLAYER.equals(propertyName) && !BrightSignBSNCloudConstant.REBOOT_WITH_CRASH_REPORT.equals(propertyName)) {
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("Unable to execute %s command on device %s: Not Supported", property, deviceId));
 			}
-			Optional<AggregatedDevice> aggregatedDevice = aggregatedDeviceList.stream().filter(item -> item.getDeviceId().equals(deviceId)).findFirst();
-			if (aggregatedDevice.isPresent()) {
-				String deviceSerial = aggregatedDevice.get().getProperties().get(AggregatedInformation.PLAYER_ID.getName());
-				if (StringUtils.isNullOrEmpty(deviceSerial)) {
-					throw new IllegalArgumentException(String.format("Unable to control property: %s as the device serial not found.", property));
+			return;
+		}
+		submitControl(getKeyNetwork(deviceId), deviceId, String.format(BrightSignBSNCloudCommand.REBOOT_ENDPOINT, UriUtils.encode(deviceSerial, StandardCharsets.UTF_8)),
+				propertyName);
+	}
+
+	/**
+	 * Handles the aggregator level group reboot controls: selecting the group, then rebooting all players of the group with one request.
+	 *
+	 * @param propertyName name of the control without the group prefix
+	 * @param value value of the control
+	 * @throws Exception if the reboot fails while executed synchronously
+	 */
+	private void controlGroupReboot(String propertyName, String value) throws Exception {
+		switch (propertyName) {
+			case BrightSignBSNCloudConstant.GROUP_REBOOT_GROUP:
+				selectedRebootGroupId = value;
+				break;
+			case BrightSignBSNCloudConstant.REBOOT_GROUP:
+			case BrightSignBSNCloudConstant.REBOOT_GROUP_WITH_CRASH_REPORT:
+				String groupId = selectedRebootGroupId;
+				FleetStatistics.GroupSummary group = fleetStatistics.getGroupSummaries().stream().filter(item -> item.getGroupId().equals(groupId)).findFirst()
+						.orElseThrow(() -> new IllegalStateException(String.format("Unable to control property: %s as the group does not exist.", propertyName)));
+				submitControl(getKeyNetwork(group.getGroupId()), BrightSignBSNCloudConstant.GROUP_DEVICE_ID_PREFIX + group.getGroupId(),
+						String.format(BrightSignBSNCloudCommand.GROUP_REBOOT_ENDPOINT, UriUtils.encode(group.getGroupName(), StandardCharsets.UTF_8)), propertyName);
+				break;
+			default:
+				if (logger.isWarnEnabled()) {
+					logger.warn(String.format("Unable to execute %s command on the aggregator: Not Supported", propertyName));
 				}
-				switch (propertyName) {
-					case BrightSignBSNCloudConstant.REBOOT_PLAYER:
-						String request = String.format(BrightSignBSNCloudCommand.REBOOT_ENDPOINT, deviceSerial);
-						JsonNode response = doPut(request, new HashMap<>(), JsonNode.class);
+				break;
+		}
+	}
 
-						if (checkFailedResponse(response)) {
-							throw new RuntimeException(String.format("Unable to control property: %s", property));
-						}
-						break;
-					case BrightSignBSNCloudConstant.REBOOT_WITH_CRASH_REPORT:
-						request = String.format(BrightSignBSNCloudCommand.REBOOT_ENDPOINT, deviceSerial);
-						ObjectNode rootNode = objectMapper.createObjectNode();
-						ObjectNode dataNode = objectMapper.createObjectNode();
-						dataNode.put("crash_report", true);
-						rootNode.set("data", dataNode);
-
-						response = doPut(request, rootNode, JsonNode.class);
-						if (checkFailedResponse(response)) {
-							throw new RuntimeException(String.format("Unable to control property: %s", property));
-						}
-						break;
-					default:
-						if (logger.isWarnEnabled()) {
-							logger.warn(String.format("Unable to execute %s command on device %s: Not Supported", property, deviceId));
-						}
-						break;
+	/**
+	 * Records a pending command status and executes the command, in the background when {@link #asyncControl} is enabled
+	 * unless the command is part of a {@link #controlProperties(List)} batch
+	 *
+	 * @param network network of the device or group
+	 * @param deviceId id of the device or group pseudo-device the command targets
+	 * @param request reboot request url
+	 * @param command name of the command
+	 * @throws Exception if the command fails while executed synchronously
+	 */
+	private void submitControl(NetworkContext network, String deviceId, String request, String command) throws Exception {
+		ControlCommandStatus pending = ControlCommandStatus.pending(command, System.currentTimeMillis());
+		commandStatuses.put(deviceId, pending);
+		deviceVersions.put(deviceId, deviceVersionCounter.incrementAndGet());
+		ExecutorService executor = controlExecutorService;
+		if (asyncControl && executor != null && !Boolean.TRUE.equals(batchControl.get())) {
+			try {
+				executor.execute(() -> {
+					try {
+						executeControl(network, deviceId, request, pending);
+					} catch (Exception e) {
+						logger.error(String.format("Unable to execute %s command on device %s", command, deviceId), e);
+					}
+				});
+				return;
+			} catch (RejectedExecutionException e) {
+				if (logger.isWarnEnabled()) {
+					logger.warn(String.format("Control queue is not available, executing %s command on device %s synchronously", command, deviceId));
+				}
+			}
+		}
+		executeControl(network, deviceId, request, pending);
+	}
+
+	/**
+	 * Executes a control command under the lock of the device and records its status.
+	 * When {@link #asyncControl} is enabled, failed attempts are retried up to {@link #controlRetries} times.
+	 *
+	 * @param network network of the device or group
+	 * @param deviceId id of the device or group pseudo-device the command targets
+	 * @param request reboot request url
+	 * @param pending status of the command when it was submitted
+	 * @throws Exception if the last attempt fails
+	 */
+	private void executeControl(NetworkContext network, String deviceId, String request, ControlCommandStatus pending) throws Exception {
+		String command = pending.getCommand();
+		ReentrantLock controlLock = controlLocks.computeIfAbsent(deviceId, key -> new ReentrantLock());
+		controlLock.lock();
+		try {
+			int maxAttempts = asyncControl ? Math.max(0, controlRetries) + 1 : 1;
+			for (int attempt = 1; ; attempt++) {
+				try {
+					inNetwork(network, () -> {
+						sendControl(request, command);
+						return null;
+					});
+					completeCommand(deviceId, pending, pending.succeeded(attempt, System.currentTimeMillis()));
+					return;
+				} catch (Exception e) {
+					if (attempt >= maxAttempts || e instanceof IllegalArgumentException || e instanceof InterruptedException) {
+						completeCommand(deviceId, pending, pending.failed(attempt, e.getMessage(), System.currentTimeMillis()));
+						throw e;
+					}
+					if (logger.isWarnEnabled()) {
+						logger.warn(String.format("Attempt %d of %s command on device %s failed, retrying", attempt, command, deviceId), e);
+					}
+					try {
+						Thread.sleep(controlRetryDelay * attempt);
+					} catch (InterruptedException ie) {
+						completeCommand(deviceId, pending, pending.failed(attempt, "Interrupted before retrying: " + e.getMessage(), System.currentTimeMillis()));
+						Thread.currentThread().interrupt();
+						throw ie;
+					}
 				}
-			} else {
-				throw new IllegalStateException(String.format("Unable to control property: %s as the device does not exist.", property));
 			}
 		} finally {
-			reentrantLock.unlock();
+			controlLock.unlock();
+		}
+	}
+
+	/**
+	 * Sends a reboot command to a player or a group
+	 *
+	 * @param request reboot request url, with its query values already encoded
+	 * @param command name of the command
+	 * @throws Exception if the request fails or BSN.cloud reports a failure
+	 */
+	private void sendControl(String request, String command) throws Exception {
+		JsonNode response;
+		switch (command) {
+			case BrightSignBSNCloudConstant.REBOOT_PLAYER:
+			case BrightSignBSNCloudConstant.REBOOT_GROUP:
+				response = executeRequest(RequestPriority.CONTROL, () -> doPut(URI.create(request), new HashMap<>()));
+				break;
+			case BrightSignBSNCloudConstant.REBOOT_WITH_CRASH_REPORT:
+			case BrightSignBSNCloudConstant.REBOOT_GROUP_WITH_CRASH_REPORT:
+				ObjectNode rootNode = objectMapper.createObjectNode();
+				ObjectNode dataNode = objectMapper.createObjectNode();
+				dataNode.put("crash_report", true);
+				rootNode.set("data", dataNode);
+				response = executeRequest(RequestPriority.CONTROL, () -> doPut(URI.create(request), rootNode));
+				break;
+			default:
+				throw new IllegalArgumentException(String.format("Unsupported command: %s", command));
+		}
+		if (checkFailedResponse(response)) {
+			throw new RuntimeException(String.format("Unable to control property: %s", command));
+		}
+	}
+
+	/**
+	 * Sends a PUT request to an encoded url. Unlike {@link #doPut(String, Object, Class)}, the url is not expanded as a URI template,
+	 * which would encode the escaped query values a second time. Failures are reported with the exceptions thrown by the library:
+	 * {@link FailedLoginException} for {@code 401 Unauthorized}, {@link CommandFailureException} for other error statuses
+	 * and {@link ResourceNotReachableException} when the request cannot be sent.
+	 *
+	 * @param uri encoded request url
+	 * @param request request body
+	 * @return response body
+	 * @throws Exception if the request fails
+	 */
+	protected JsonNode doPut(URI uri, Object request) throws Exception {
+		HttpHeaders headers = putExtraRequestHeaders(HttpMethod.PUT, uri.toString(), new HttpHeaders());
+		try {
+			return obtainRestTemplate().exchange(uri, HttpMethod.PUT, new HttpEntity<>(request, headers), JsonNode.class).getBody();
+		} catch (HttpStatusCodeException e) {
+			if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
+				FailedLoginException failure = new FailedLoginException("Invalid authentication credentials for " + uri);
+				failure.initCause(e);
+				throw failure;
+			}
+			throw new CommandFailureException(host, uri.toString(), e.getResponseBodyAsString(), e.getRawStatusCode(), e);
+		} catch (ResourceAccessException e) {
+			throw new ResourceNotReachableException("Cannot reach resource at " + uri, e);
+		}
+	}
+
+	/**
+	 * Replaces the pending command status of a device with its result and marks the device as changed, so the status is published.
+	 * Nothing changes if a newer command was submitted for the device meanwhile.
+	 *
+	 * @param deviceId id of the device
+	 * @param pending status of the command when it was submitted
+	 * @param result status of the completed command
+	 */
+	private void completeCommand(String deviceId, ControlCommandStatus pending, ControlCommandStatus result) {
+		if (commandStatuses.replace(deviceId, pending, result)) {
+			deviceVersions.put(deviceId, deviceVersionCounter.incrementAndGet());
 		}
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * Controls of the batch are executed in place by up to {@link #controlParallelism} workers, also when {@link #asyncControl} is enabled,
+	 * and the failures of all devices are thrown together once every control completed.
 	 */
 	@Override
 	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
 		if (CollectionUtils.isEmpty(controllableProperties)) {
 			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
 		}
-		for (ControllableProperty p : controllableProperties) {
+		ConcurrentLinkedQueue<ControllableProperty> pending = new ConcurrentLinkedQueue<>(controllableProperties);
+		List<String> failures = Collections.synchronizedList(new ArrayList<>());
+		List<Exception> errors = Collections.synchronizedList(new ArrayList<>());
+		Runnable worker = () -> {
+			ControllableProperty p;
+			batchControl.set(Boolean.TRUE);
 			try {
-				controlProperty(p);
-			} catch (Exception e) {
-				logger.error(String.format("Error when control property %s", p.getProperty()), e);
+				while ((p = pending.poll()) != null) {
+					try {
+						controlProperty(p);
+					} catch (Exception e) {
+						logger.error(String.format("Error when control property %s of device %s", p.getProperty(), p.getDeviceId()), e);
+						failures.add(String.format("%s on device %s: %s", p.getProperty(), p.getDeviceId(), e.getMessage()));
+						errors.add(e);
+					}
+				}
+			} finally {
+				batchControl.remove();
+			}
+		};
+		int parallelism = Math.min(Math.max(1, controlParallelism), controllableProperties.size());
+		ExecutorService executor = controlExecutorService;
+		if (parallelism == 1 || executor == null) {
+			worker.run();
+		} else {
+			List<Future<?>> workers = new ArrayList<>();
+			for (int i = 0; i < parallelism; i++) {
+				workers.add(executor.submit(worker));
+			}
+			for (Future<?> future : workers) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					logger.error("Error while executing controls", e.getCause());
+				}
 			}
 		}
+		if (!failures.isEmpty()) {
+			RuntimeException exception = new RuntimeException(String.format("Unable to control %d of %d properties: %s", failures.size(), controllableProperties.size(),
+					String.join("; ", failures)));
+			errors.forEach(exception::addSuppressed);
+			throw exception;
+		}
 	}
 
 	/**
@@ -595,12 +2067,7 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	 */
 	@Override
 	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
-		if (executorService == null) {
-			executorService = Executors.newFixedThreadPool(1);
-			executorService.submit(deviceDataLoader = new BrightSignBSNCloudDataLoader());
-		}
-		nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
-		updateValidRetrieveStatisticsTimestamp();
+		resumeMonitoring();
 		if (cachedData.isEmpty()) {
 			return Collections.emptyList();
 		}
@@ -609,10 +2076,38 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 
 	/**
 	 * {@inheritDoc}
+	 * The requested devices are returned in full and the delta publish state is left untouched,
+	 * so devices outside the list are still published by the next {@link #retrieveMultipleStatistics()} call.
 	 */
 	@Override
 	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-		return retrieveMultipleStatistics().stream().filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId())).collect(Collectors.toList());
+		resumeMonitoring();
+		Set<String> deviceIds = new HashSet<>(list);
+		List<AggregatedDevice> result = new ArrayList<>();
+		for (AggregatedDevice item : cachedData.values()) {
+			if (deviceIds.contains(item.getDeviceId())) {
+				result.add(createPublishedDevice(item));
+			}
+		}
+		if (displayGroupAggregates) {
+			for (FleetStatistics.GroupSummary summary : fleetStatistics.getGroupSummaries()) {
+				if (deviceIds.contains(BrightSignBSNCloudConstant.GROUP_DEVICE_ID_PREFIX + summary.getGroupId())) {
+					result.add(createGroupAggregatedDevice(summary));
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Marks monitoring as active and resumes the device loader when it is parked
+	 */
+	private void resumeMonitoring() {
+		updateValidRetrieveStatisticsTimestamp();
+		BrightSignBSNCloudDataLoader loader = deviceDataLoader;
+		if (loader != null) {
+			loader.wakeUp();
+		}
 	}
 
 	/**
@@ -621,9 +2116,12 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	 */
 	@Override
 	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) {
-		if (loginInfo.getToken() != null && !uri.contains(BrightSignBSNCloudCommand.REST_TOKEN)) {
-			headers.setBearerAuth(loginInfo.getToken());
+		LoginInfo info = getCurrentLoginInfo();
+		String token = info == null ? null : info.getState().getToken();
+		if (token != null && !uri.contains(BrightSignBSNCloudCommand.REST_TOKEN)) {
+			headers.setBearerAuth(token);
 		}
+		headers.set(HttpHeaders.ACCEPT_ENCODING, BrightSignBSNCloudConstant.ACCEPT_ENCODING);
 		headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
 		if (uri.contains("v1/control/reboot")) {
 			headers.setContentType(MediaType.APPLICATION_JSON);
@@ -631,6 +2129,58 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 		return headers;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * Keeps the created client so HTTP pings can reuse its connection pool
+	 */
+	@Override
+	protected HttpClient obtainHttpClient(boolean forceNew) throws Exception {
+		HttpClient client = super.obtainHttpClient(forceNew);
+		httpClient = client;
+		return client;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Wraps the HTTP client of the request factory created by the library with {@link #httpRequestMetrics}.
+	 * The factory itself is kept, so requests still run with the HTTP context it shares across requests (cookies, authentication cache).
+	 */
+	@Override
+	protected RestTemplate obtainRestTemplate() throws Exception {
+		RestTemplate restTemplate = super.obtainRestTemplate();
+		if (restTemplate != meteredRestTemplate) {
+			synchronized (this) {
+				if (restTemplate != meteredRestTemplate) {
+					meterRequestFactory(restTemplate);
+					meteredRestTemplate = restTemplate;
+				}
+			}
+		}
+		return restTemplate;
+	}
+
+	/**
+	 * Wraps the HTTP client of the request factory of a rest template with {@link #httpRequestMetrics}
+	 *
+	 * @param restTemplate rest template created by the library
+	 */
+	private void meterRequestFactory(RestTemplate restTemplate) {
+		// Interceptors make getRequestFactory return an intercepting wrapper instead of the factory of the template
+		List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>(restTemplate.getInterceptors());
+		restTemplate.setInterceptors(Collections.emptyList());
+		ClientHttpRequestFactory requestFactory = restTemplate.getRequestFactory();
+		restTemplate.setInterceptors(interceptors);
+		if (requestFactory instanceof HttpComponentsClientHttpRequestFactory) {
+			HttpComponentsClientHttpRequestFactory httpComponentsFactory = (HttpComponentsClientHttpRequestFactory) requestFactory;
+			HttpClient client = httpComponentsFactory.getHttpClient();
+			if (client instanceof CloseableHttpClient) {
+				httpComponentsFactory.setHttpClient(httpRequestMetrics.wrap((CloseableHttpClient) client));
+				return;
+			}
+		}
+		logger.warn("Request metrics are not available for request factory " + requestFactory.getClass().getName());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -647,8 +2197,20 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 		if (logger.isDebugEnabled()) {
 			logger.debug("Internal init is called.");
 		}
-		executorService = Executors.newFixedThreadPool(1);
-		executorService.submit(deviceDataLoader = new BrightSignBSNCloudDataLoader());
+		executorService = Executors.newSingleThreadScheduledExecutor();
+		statisticsExecutorService = Executors.newSingleThreadScheduledExecutor();
+		controlExecutorService = Executors.newCachedThreadPool();
+		requestExecutorService = Executors.newCachedThreadPool();
+		deviceDataLoader = new BrightSignBSNCloudDataLoader(executorService);
+		cycleStartDelay = 0;
+		if (staggerCycles) {
+			cycleSlot = CycleSlotCoordinator.acquire();
+			cycleStartDelay = CycleSlotCoordinator.getStartDelay(cycleSlot, pollingInterval);
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("First devices statistics collection cycle starts in %d ms, cycle slot %d", cycleStartDelay, cycleSlot));
+			}
+		}
+		deviceDataLoader.start(cycleStartDelay);
 		super.internalInit();
 	}
 
@@ -664,63 +2226,508 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 			deviceDataLoader.stop();
 			deviceDataLoader = null;
 		}
+		CycleSlotCoordinator.release(cycleSlot);
+		cycleSlot = CycleSlotCoordinator.NO_SLOT;
+		cycleStartDelay = 0;
 		if (executorService != null) {
 			executorService.shutdownNow();
 			executorService = null;
 		}
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
-			localExtendedStatistics.getStatistics().clear();
-			localExtendedStatistics.getControllableProperties().clear();
+		if (statisticsExecutorService != null) {
+			statisticsExecutorService.shutdownNow();
+			statisticsExecutorService = null;
+		}
+		if (controlExecutorService != null) {
+			controlExecutorService.shutdownNow();
+			controlExecutorService = null;
+		}
+		if (requestExecutorService != null) {
+			requestExecutorService.shutdownNow();
+			requestExecutorService = null;
+		}
+		networkStatistics.clear();
+		networkInfoTimestamp = 0;
+		deviceCountTimestamp = 0;
+		numberOfDevices = 0;
+		controlLocks.clear();
+		commandStatuses.clear();
+		selectedRebootGroupId = null;
+		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
+			localExtendedStatistics.getStatistics().clear();
+			localExtendedStatistics.getControllableProperties().clear();
+		}
+		synchronized (this) {
+			for (NetworkContext network : networkContexts) {
+				if (network.getTokenRefreshFuture() != null) {
+					network.getTokenRefreshFuture().cancel(false);
+					network.setTokenRefreshFuture(null);
+				}
+				if (network.getTokenRegistryKey() != null) {
+					TokenRegistry.release(network.getTokenRegistryKey());
+				}
+			}
+			networkContexts = Collections.emptyList();
+		}
+		aggregatedDeviceList.clear();
+		cachedData.clear();
+		fleetStatistics.clear();
+		transitionDetector.clear();
+		deviceVersions.clear();
+		pollingController.reset();
+		circuitBreaker.reset();
+		requestHedger.reset();
+		dnsCache.clear();
+		pageSizeController.reset();
+		consecutiveCycleFailures = 0;
+		lastSuccessfulCycleTimestamp = 0;
+		deviceUpdateTimestamps.clear();
+		lastPublishedVersion = 0;
+		lastFullPublishTimestamp = 0;
+		super.internalDestroy();
+	}
+
+	/**
+	 * Retrieves the network information and the number of devices whose TTL expired, loading the next value of {@link #networkStatistics}.
+	 * The network information is reused from the current value until {@link #networkInfoTtl} expires.
+	 * It is retrieved for every monitored network, in the context of that network since the refresh runs outside of any network context.
+	 * When several networks are monitored, the information of each one is grouped under the name of the network.
+	 *
+	 * @return the new network statistics
+	 * @throws Exception if authentication or retrieval fails
+	 */
+	private Map<String, String> refreshNetworkStatistics() throws Exception {
+		try {
+			if (networkContexts.isEmpty()) {
+				initLoginInfo();
+			}
+			long now = System.currentTimeMillis();
+			Map<String, String> statistics = networkStatistics.getValue();
+			if (statistics == null || now - networkInfoTimestamp >= networkInfoTtl) {
+				statistics = new HashMap<>();
+				List<NetworkContext> contexts = networkContexts;
+				for (NetworkContext network : contexts) {
+					Map<String, String> networkInfo = new HashMap<>();
+					inNetwork(network, () -> {
+						checkAuthentication();
+						populateNetworkInfo(networkInfo);
+						return null;
+					});
+					if (contexts.size() == 1) {
+						statistics.putAll(networkInfo);
+					} else {
+						for (Map.Entry<String, String> entry : networkInfo.entrySet()) {
+							statistics.put(createNetworkInfoKey(network, entry.getKey()), entry.getValue());
+						}
+					}
+				}
+				networkInfoTimestamp = now;
+			}
+			if (now - deviceCountTimestamp >= deviceCountTtl) {
+				populateNumberOfDevice();
+			}
+			return statistics;
+		} catch (Exception e) {
+			logger.error("Error while refreshing network statistics", e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Creates the statistics key of a network information field of one of several monitored networks,
+	 * for example {@code Network-Lobby#SubscriptionLevel} for the {@code Subscription#Level} field of the Lobby network
+	 *
+	 * @param network network the field belongs to
+	 * @param key key of the field when a single network is monitored
+	 * @return key of the field grouped under the network
+	 */
+	private String createNetworkInfoKey(NetworkContext network, String key) {
+		return "Network-" + network.getName() + BrightSignBSNCloudConstant.HASH + key.replace(BrightSignBSNCloudConstant.HASH, BrightSignBSNCloudConstant.EMPTY);
+	}
+
+	/**
+	 * Executes a request after taking a token from {@link #rateLimiter}.
+	 * A {@code 429 Too Many Requests} response blocks further requests for the {@code Retry-After} delay,
+	 * after which the request is retried once. A {@code 401 Unauthorized} response renews the token and retries the request once.
+	 * Server errors and connection failures are counted by {@link #circuitBreaker},
+	 * which rejects requests while it is open. The circuit is checked before the rate limit, so rejected requests do not take tokens.
+	 *
+	 * @param priority priority of the request
+	 * @param request request to execute
+	 * @param <T> type of the response
+	 * @return response of the request
+	 * @throws Exception if the request fails
+	 */
+	private <T> T executeRequest(RequestPriority priority, Callable<T> request) throws Exception {
+		boolean authenticationRetried = false;
+		for (int attempt = 0; ; attempt++) {
+			if (!circuitBreaker.allowRequest(circuitBreakerOpenTime)) {
+				throw new ResourceNotReachableException(String.format("BSN.cloud requests are short-circuited for %d ms after %d consecutive failures",
+						circuitBreaker.getRemainingOpenTime(circuitBreakerOpenTime), circuitBreaker.getConsecutiveFailures()));
+			}
+			try {
+				rateLimiter.acquire(priority, apiRequestsPerSecond, apiBurstSize, apiRateLimitMaxWait);
+			} catch (Exception e) {
+				circuitBreaker.releaseRequest();
+				throw e;
+			}
+			LoginInfo info = getCurrentLoginInfo();
+			String token = info == null ? null : info.getState().getToken();
+			T response;
+			try {
+				response = request.call();
+			} catch (CommandFailureException e) {
+				if (e.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+					if (e.getStatusCode() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+						circuitBreaker.recordFailure(circuitBreakerThreshold);
+					} else {
+						circuitBreaker.recordSuccess();
+					}
+					throw e;
+				}
+				circuitBreaker.recordSuccess();
+				long retryAfter = getRetryAfter(e);
+				rateLimiter.onTooManyRequests(retryAfter);
+				if (logger.isWarnEnabled()) {
+					logger.warn(String.format("BSN.cloud rate limit reached, requests are paused for %d ms", retryAfter));
+				}
+				if (attempt > 0) {
+					throw e;
+				}
+				continue;
+			} catch (FailedLoginException e) {
+				circuitBreaker.recordSuccess();
+				if (priority == RequestPriority.AUTHENTICATION || authenticationRetried || info == null) {
+					throw e;
+				}
+				authenticationRetried = true;
+				if (Objects.equals(token, info.getState().getToken())) {
+					refreshToken();
+				}
+				continue;
+			} catch (Exception e) {
+				circuitBreaker.recordFailure(circuitBreakerThreshold);
+				throw e;
+			}
+			circuitBreaker.recordSuccess();
+			return response;
+		}
+	}
+
+	/**
+	 * Executes a polling GET request. Concurrent callers of the same request share one round trip and its response,
+	 * so the response must be treated as read-only. Slow requests are hedged, see {@link #executeHedged(String, Callable)}.
+	 *
+	 * @param url request url
+	 * @param type type of the response
+	 * @param <T> type of the response
+	 * @return response of the request
+	 * @throws Exception if the request fails
+	 */
+	private <T> T executeGet(String url, Class<T> type) throws Exception {
+		NetworkContext network = getCurrentNetwork();
+		String networkName = network == null ? BrightSignBSNCloudConstant.EMPTY : network.getName();
+		return singleFlight.execute(networkName + BrightSignBSNCloudConstant.HASH + HttpMethod.GET + BrightSignBSNCloudConstant.SPACE + url + BrightSignBSNCloudConstant.HASH + type.getName(),
+				() -> executeRequest(RequestPriority.POLLING, () -> executeHedged(url, () -> inNetwork(network, () -> this.doGet(url, type)))));
+	}
+
+	/**
+	 * Executes a call with the requests of the current thread sent for the given network
+	 *
+	 * @param network network to send the requests for, null for the first monitored network
+	 * @param call call to execute
+	 * @param <T> type of the result
+	 * @return result of the call
+	 * @throws Exception thrown by the call
+	 */
+	private <T> T inNetwork(NetworkContext network, Callable<T> call) throws Exception {
+		NetworkContext previous = currentNetwork.get();
+		if (network == null) {
+			currentNetwork.remove();
+		} else {
+			currentNetwork.set(network);
+		}
+		try {
+			return call.call();
+		} finally {
+			if (previous == null) {
+				currentNetwork.remove();
+			} else {
+				currentNetwork.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the network the requests of the current thread are sent for
+	 *
+	 * @return network set by {@link #inNetwork(NetworkContext, Callable)}, the first monitored network otherwise, or null before {@link #initLoginInfo()}
+	 */
+	private NetworkContext getCurrentNetwork() {
+		NetworkContext network = currentNetwork.get();
+		if (network != null) {
+			return network;
+		}
+		List<NetworkContext> contexts = networkContexts;
+		return contexts.isEmpty() ? null : contexts.get(0);
+	}
+
+	/**
+	 * Retrieves the login info of the network the requests of the current thread are sent for
+	 *
+	 * @return login info, null before {@link #initLoginInfo()}
+	 */
+	private LoginInfo getCurrentLoginInfo() {
+		NetworkContext network = getCurrentNetwork();
+		return network == null ? null : network.getLoginInfo();
+	}
+
+	/**
+	 * Retrieves the network a cached device or group belongs to
+	 *
+	 * @param key key of the device or group, see {@link NetworkContext#createKey(String)}
+	 * @return network of the device or group, null for the first monitored network
+	 */
+	private NetworkContext getKeyNetwork(String key) {
+		for (NetworkContext network : networkContexts) {
+			if (network.ownsKey(key)) {
+				return network;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Executes an idempotent request, sending a duplicate when it is slower than {@link #hedgePercentile} of the recent latencies
+	 * of its endpoint. Duplicates are limited by {@link #hedgeBudget} and only sent when {@link #rateLimiter} has a spare token,
+	 * so hedging never delays other requests.
+	 *
+	 * @param url request url, the endpoint latencies are tracked for the url without its query
+	 * @param request request to execute
+	 * @param <T> type of the response
+	 * @return response of the first successful attempt
+	 * @throws Exception if every attempt fails
+	 */
+	private <T> T executeHedged(String url, Callable<T> request) throws Exception {
+		ExecutorService executor = requestExecutorService;
+		if (!hedgeRequests || executor == null) {
+			return request.call();
+		}
+		int query = url.indexOf('?');
+		String endpoint = query < 0 ? url : url.substring(0, query);
+		return requestHedger.execute(executor, endpoint, request, hedgePercentile, hedgeBudget, () -> rateLimiter.tryAcquire(apiRequestsPerSecond, apiBurstSize));
+	}
+
+	/**
+	 * Retrieves the delay requested by the {@code Retry-After} header of a {@code 429 Too Many Requests} response
+	 *
+	 * @param e exception thrown for the response
+	 * @return delay in milliseconds, {@link BrightSignBSNCloudConstant#DEFAULT_RETRY_AFTER} if the header is missing or invalid
+	 */
+	private long getRetryAfter(CommandFailureException e) {
+		if (e.getCause() instanceof HttpStatusCodeException) {
+			HttpHeaders headers = ((HttpStatusCodeException) e.getCause()).getResponseHeaders();
+			String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+			if (StringUtils.isNotNullOrEmpty(value)) {
+				try {
+					return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+				} catch (NumberFormatException ex) {
+					try {
+						return Math.max(0, ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli() - System.currentTimeMillis());
+					} catch (Exception dateException) {
+						logger.warn("Unable to parse Retry-After header: " + value);
+					}
+				}
+			}
+		}
+		return BrightSignBSNCloudConstant.DEFAULT_RETRY_AFTER;
+	}
+
+	/**
+	 * Populates throttling metrics of {@link #rateLimiter} and the number of requests coalesced by {@link #singleFlight}.
+	 *
+	 * @param stats a map to store rate limiter statistics as key-value pairs
+	 */
+	private void populateRateLimiterStatistics(Map<String, String> stats) {
+		stats.put("RateLimiter#ThrottledRequests", String.valueOf(rateLimiter.getThrottledWaits()));
+		stats.put("RateLimiter#TotalWaitTime(ms)", String.valueOf(rateLimiter.getTotalWaitTime()));
+		stats.put("RateLimiter#RejectedRequests", String.valueOf(rateLimiter.getRejections()));
+		stats.put("RateLimiter#TooManyRequestsResponses", String.valueOf(rateLimiter.getTooManyRequestsResponses()));
+		stats.put("RateLimiter#CoalescedRequests", String.valueOf(singleFlight.getCoalescedCalls()));
+	}
+
+	/**
+	 * Populates request count, connection reuse and response size metrics of {@link #httpRequestMetrics}.
+	 * Response bytes are counted once the client decoded the gzip/deflate encoding.
+	 *
+	 * @param stats a map to store request statistics as key-value pairs
+	 */
+	private void populateRequestStatistics(Map<String, String> stats) {
+		stats.put("Requests#Total", String.valueOf(httpRequestMetrics.getRequests()));
+		stats.put("Requests#ReusedConnections", String.valueOf(httpRequestMetrics.getReusedConnections()));
+		stats.put("Requests#ConnectionReuseRate(%)", String.valueOf(Math.round(httpRequestMetrics.getConnectionReuseRate() * 100)));
+		stats.put("Requests#ResponseBytes", String.valueOf(httpRequestMetrics.getResponseBytes()));
+		stats.put("Requests#HedgedRequests", String.valueOf(requestHedger.getHedgedRequests()));
+		stats.put("Requests#HedgeWins", String.valueOf(requestHedger.getHedgeWins()));
+	}
+
+	/**
+	 * Checks user authentication by verifying the login and password fields.
+	 * If the login or password fields are empty, or if the session has timed out, it attempts to retrieve a new token.
+	 *
+	 * @throws FailedLoginException if the username or password fields are empty or if their format is incorrect.
+	 * @throws Exception if the authentication process fails.
+	 */
+	private void checkAuthentication() throws Exception {
+		if (StringUtils.isNullOrEmpty(this.getLogin()) || StringUtils.isNullOrEmpty(this.getPassword())) {
+			throw new FailedLoginException("Username or Password field is empty. Please check device credentials");
+		}
+		if (networkContexts.isEmpty()) {
+			initLoginInfo();
+		}
+		NetworkContext network = getCurrentNetwork();
+		TokenState state = network.getLoginInfo().getState();
+		if (state.isTimeout() || state.getToken() == null) {
+			refreshToken();
+		} else if (state.isRefreshDue(BrightSignBSNCloudConstant.TOKEN_REFRESH_AHEAD)) {
+			scheduleTokenRefresh(network, 0);
+		}
+	}
+
+	/**
+	 * Parses the credentials and retrieves a new authorization token for the network the requests of the current thread are sent for.
+	 * Concurrent refreshes of the same account share one request, across all instances of the JVM.
+	 *
+	 * @throws FailedLoginException if the format of the credentials is incorrect or login fails
+	 * @throws Exception if the token cannot be retrieved
+	 */
+	private void refreshToken() throws Exception {
+		String[] credentials = parseCredentials();
+		NetworkContext network = getCurrentNetwork();
+		String username = network.getUsername() == null ? credentials[0] : network.getUsername();
+		String key = TokenRegistry.createKey(credentials[2], username, credentials[1], credentials[3]);
+		TokenRegistry.refresh(key, () -> {
+			retrieveToken(network, username, credentials[1], credentials[2], credentials[3]);
+			return null;
+		});
+	}
+
+	/**
+	 * Creates the contexts of the monitored networks, each acquiring the login info shared by the instances using the same credentials
+	 * from {@link TokenRegistry}. The user of the login field is used for every network of {@link #networks}.
+	 * A single network with a private login info is used when the credentials are missing or malformed, {@link #checkAuthentication()} reports them.
+	 */
+	private synchronized void initLoginInfo() {
+		if (!networkContexts.isEmpty()) {
+			return;
+		}
+		List<NetworkContext> contexts = new ArrayList<>();
+		if (StringUtils.isNotNullOrEmpty(this.getLogin()) && StringUtils.isNotNullOrEmpty(this.getPassword())) {
+			try {
+				String[] credentials = parseCredentials();
+				String[] user = credentials[0].split("/");
+				Set<String> names = new LinkedHashSet<>();
+				if (StringUtils.isNotNullOrEmpty(networks) && user.length == 2) {
+					Arrays.stream(networks.split(BrightSignBSNCloudConstant.COMMA)).map(String::trim).filter(StringUtils::isNotNullOrEmpty).forEach(names::add);
+				}
+				if (names.isEmpty()) {
+					contexts.add(createNetworkContext(user.length == 2 ? user[0] : null, credentials[0], credentials, false));
+				}
+				for (String name : names) {
+					contexts.add(createNetworkContext(name, name + "/" + user[1], credentials, names.size() > 1));
+				}
+			} catch (FailedLoginException e) {
+				// Reported by checkAuthentication
+			}
+		}
+		if (contexts.isEmpty()) {
+			contexts.add(new NetworkContext(null, null, null, new LoginInfo(), false));
+		}
+		networkContexts = Collections.unmodifiableList(contexts);
+	}
+
+	/**
+	 * Creates the context of a network, acquiring its login info from {@link TokenRegistry}
+	 *
+	 * @param name name of the network
+	 * @param username user name prefixed by the network name
+	 * @param credentials parsed credentials, see {@link #parseCredentials()}
+	 * @param qualified whether the keys of the devices and groups of the network are prefixed by its name
+	 * @return network context
+	 */
+	private NetworkContext createNetworkContext(String name, String username, String[] credentials, boolean qualified) {
+		String key = TokenRegistry.createKey(credentials[2], username, credentials[1], credentials[3]);
+		return new NetworkContext(name, username, key, TokenRegistry.acquire(key), qualified);
+	}
+
+	/**
+	 * Parses the "user client_id" login and the "password client_secret" password fields, the user is prefixed by the network name
+	 *
+	 * @return username, password, client id and client secret
+	 * @throws FailedLoginException if the format of the credentials is incorrect
+	 */
+	private String[] parseCredentials() throws FailedLoginException {
+		String username;
+		String password;
+		String clientId;
+		String clientSecret;
+		String[] loginField = this.getLogin().split(BrightSignBSNCloudConstant.SPACE);
+		if (loginField.length == 2) {
+			username = loginField[0];
+			clientId = loginField[1];
+		} else {
+			throw new FailedLoginException("The format of Username field is incorrect. Please check again");
+		}
+
+		String[] passwordField = this.getPassword().split(BrightSignBSNCloudConstant.SPACE);
+		if (passwordField.length == 2) {
+			password = passwordField[0];
+			clientSecret = passwordField[1];
+		} else {
+			throw new FailedLoginException("The format of Password field is incorrect. Please check again");
 		}
-		loginInfo = null;
-		nextDevicesCollectionIterationTimestamp = 0;
-		aggregatedDeviceList.clear();
-		cachedData.clear();
-		super.internalDestroy();
+		return new String[] { username, password, clientId, clientSecret };
 	}
 
 	/**
-	 * Checks user authentication by verifying the login and password fields.
-	 * If the login or password fields are empty, or if the session has timed out, it attempts to retrieve a new token.
+	 * Schedules a background refresh of the authorization token of a network, unless one is already scheduled to run earlier
 	 *
-	 * @throws FailedLoginException if the username or password fields are empty or if their format is incorrect.
-	 * @throws Exception if the authentication process fails.
+	 * @param network network whose token is refreshed
+	 * @param delay delay in milliseconds before the refresh
 	 */
-	private void checkAuthentication() throws Exception {
-		if (StringUtils.isNullOrEmpty(this.getLogin()) || StringUtils.isNullOrEmpty(this.getPassword())) {
-			throw new FailedLoginException("Username or Password field is empty. Please check device credentials");
+	private synchronized void scheduleTokenRefresh(NetworkContext network, long delay) {
+		ScheduledExecutorService scheduler = statisticsExecutorService;
+		if (scheduler == null) {
+			return;
 		}
-		if (this.loginInfo.isTimeout() || this.loginInfo.getToken() == null) {
-			String username;
-			String password;
-			String clientId;
-			String clientSecret;
-			String[] loginField = this.getLogin().split(BrightSignBSNCloudConstant.SPACE);
-			if (loginField.length == 2) {
-				username = loginField[0];
-				clientId = loginField[1];
-				String[] user = username.split("/");
-				if (user.length == 2) {
-					networkName = user[0];
-				}
-			} else {
-				throw new FailedLoginException("The format of Username field is incorrect. Please check again");
-			}
-
-			String[] passwordField = this.getPassword().split(BrightSignBSNCloudConstant.SPACE);
-			if (passwordField.length == 2) {
-				password = passwordField[0];
-				clientSecret = passwordField[1];
-			} else {
-				throw new FailedLoginException("The format of Password field is incorrect. Please check again");
+		ScheduledFuture<?> tokenRefreshFuture = network.getTokenRefreshFuture();
+		if (tokenRefreshFuture != null && !tokenRefreshFuture.isDone()) {
+			if (tokenRefreshFuture.getDelay(TimeUnit.MILLISECONDS) <= delay) {
+				return;
 			}
-			retrieveToken(username, password, clientId, clientSecret);
+			tokenRefreshFuture.cancel(false);
+		}
+		try {
+			network.setTokenRefreshFuture(scheduler.schedule(() -> {
+				try {
+					if (networkContexts.contains(network) && network.getLoginInfo().getState().isRefreshDue(BrightSignBSNCloudConstant.TOKEN_REFRESH_AHEAD)) {
+						inNetwork(network, () -> {
+							refreshToken();
+							return null;
+						});
+					}
+				} catch (Exception e) {
+					logger.warn(String.format("Unable to refresh the authorization token of network %s in the background", network.getName()), e);
+				}
+			}, Math.max(0, delay), TimeUnit.MILLISECONDS));
+		} catch (RejectedExecutionException e) {
+			network.setTokenRefreshFuture(null);
 		}
 	}
 
 	/**
-	 * Retrieves an authorization token using the provided credentials.
+	 * Retrieves an authorization token of a network using the provided credentials.
 	 *
+	 * @param network the network the token is retrieved for
 	 * @param username the username for authentication
 	 * @param password the password for authentication
 	 * @param clientId the client ID for the application
@@ -729,7 +2736,28 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	 * @throws ResourceNotReachableException if the endpoint is unreachable
 	 * @throws Exception for other unforeseen errors
 	 */
-	private void retrieveToken(String username, String password, String clientId, String clientSecret) throws Exception {
+	private void retrieveToken(NetworkContext network, String username, String password, String clientId, String clientSecret) throws Exception {
+		LoginInfo info = network.getLoginInfo();
+		TokenState state = info.getState();
+		String refreshToken = state.getRefreshToken();
+		if (StringUtils.isNotNullOrEmpty(refreshToken)) {
+			try {
+				MultiValueMap<String, String> request = new LinkedMultiValueMap<>();
+				request.add("client_id", clientId);
+				request.add("client_secret", clientSecret);
+				request.add("grant_type", BrightSignBSNCloudConstant.REFRESH_TOKEN);
+				request.add(BrightSignBSNCloudConstant.REFRESH_TOKEN, refreshToken);
+				JsonNode response = executeRequest(RequestPriority.AUTHENTICATION, () -> this.doPost(BrightSignBSNCloudCommand.REST_TOKEN, request, JsonNode.class));
+				if (updateLoginInfo(network, response)) {
+					return;
+				}
+			} catch (Exception e) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Unable to refresh the authorization token with the refresh token, logging in again", e);
+				}
+			}
+			info.clearRefreshToken(refreshToken);
+		}
 		try {
 			MultiValueMap<String, String> request = new LinkedMultiValueMap<>();
 			request.add("client_id", clientId);
@@ -737,12 +2765,9 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 			request.add("grant_type", "password");
 			request.add("username", username);
 			request.add("password", password);
-			JsonNode response = this.doPost(BrightSignBSNCloudCommand.REST_TOKEN, request, JsonNode.class);
-			if (response != null && response.has(BrightSignBSNCloudConstant.ACCESS_TOKEN)) {
-				this.loginInfo.setToken(response.get(BrightSignBSNCloudConstant.ACCESS_TOKEN).asText());
-				this.loginInfo.setLoginDateTime(System.currentTimeMillis());
-			} else {
-				loginInfo = null;
+			JsonNode response = executeRequest(RequestPriority.AUTHENTICATION, () -> this.doPost(BrightSignBSNCloudCommand.REST_TOKEN, request, JsonNode.class));
+			if (!updateLoginInfo(network, response)) {
+				info.clearToken(state.getToken());
 				throw new ResourceNotReachableException("Unable to retrieve the authorization token, endpoint not reachable");
 			}
 		} catch (CommandFailureException e) {
@@ -758,6 +2783,29 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 		}
 	}
 
+	/**
+	 * Publishes the token, its lifetime and the refresh token from the token endpoint response as a new {@link TokenState},
+	 * then schedules the background refresh ahead of the expiry. The refresh token of the previous state is kept when none is returned.
+	 *
+	 * @param network network whose login info is updated
+	 * @param response token endpoint response
+	 * @return true if the response contains an access token
+	 */
+	private boolean updateLoginInfo(NetworkContext network, JsonNode response) {
+		if (response == null || !response.has(BrightSignBSNCloudConstant.ACCESS_TOKEN)) {
+			return false;
+		}
+		LoginInfo info = network.getLoginInfo();
+		String refreshToken = response.hasNonNull(BrightSignBSNCloudConstant.REFRESH_TOKEN) ? response.get(BrightSignBSNCloudConstant.REFRESH_TOKEN).asText()
+				: info.getState().getRefreshToken();
+		long now = System.currentTimeMillis();
+		TokenState state = new TokenState(response.get(BrightSignBSNCloudConstant.ACCESS_TOKEN).asText(), refreshToken, now,
+				TimeUnit.SECONDS.toMillis(response.path(BrightSignBSNCloudConstant.EXPIRES_IN).asLong(0)));
+		info.setState(state);
+		scheduleTokenRefresh(network, state.getRefreshDateTime(BrightSignBSNCloudConstant.TOKEN_REFRESH_AHEAD) - now);
+		return true;
+	}
+
 	/**
 	 * Populates network information into the provided stats map by retrieving data from the network info endpoint.
 	 *
@@ -766,7 +2814,8 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	 */
 	private void populateNetworkInfo(Map<String, String> stats) {
 		try {
-			JsonNode response = this.doGet(BrightSignBSNCloudCommand.NETWORK_INFO, JsonNode.class);
+			String networkName = getCurrentNetwork().getName();
+			JsonNode response = executeGet(BrightSignBSNCloudCommand.NETWORK_INFO, JsonNode.class);
 			for (JsonNode item : response) {
 				if (networkName.equals(item.get(BrightSignBSNCloudConstant.NAME).asText())) {
 					for (AggregatorInformation property : AggregatorInformation.values()) {
@@ -808,6 +2857,20 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 		}
 	}
 
+	/**
+	 * Populates the age of the network information served by {@link #networkStatistics}, and the error of its latest refresh while refreshes fail
+	 *
+	 * @param stats a map to store the network information status as key-value pairs
+	 */
+	private void populateNetworkInfoStatus(Map<String, String> stats) {
+		long loaded = networkStatistics.getTimestamp();
+		stats.put("NetworkInfo#DataAge(s)", loaded == 0 ? BrightSignBSNCloudConstant.NONE : String.valueOf(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - loaded)));
+		Exception error = networkStatistics.getError();
+		if (error != null) {
+			stats.put("NetworkInfo#RefreshError", getDefaultValueForNullData(error.getMessage()));
+		}
+	}
+
 	/**
 	 * Checks if the specified property exists in the given JSON node.
 	 *
@@ -827,28 +2890,91 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	}
 
 	/**
-	 * Populates number of device on network into the provided stats map by retrieving data from the COUNT endpoint.
+	 * Populates {@link #numberOfDevices} by retrieving the device count of every monitored network from the COUNT endpoint.
+	 * When the fleet is sharded by group, a network is counted only once the group ids owned by the shard can be sent as a filter,
+	 * until then its count comes from its device list walks.
 	 *
-	 * @param stats a map to store network information as key-value pairs
 	 * @throws ResourceNotReachableException if the network information cannot be retrieved
 	 */
-	private void populateNumberOfDevice(Map<String, String> stats) {
-		try {
-			String response = this.doGet(BrightSignBSNCloudCommand.GET_NUMBER_OF_DEVICES + createParamFilter());
-			stats.put("NumberOfDevices", response);
-			numberOfDevices = Integer.parseInt(response);
-		} catch (CommandFailureException ex) {
-			if (!ex.getResponse().contains("Unsupported value")) {
-				throw new ResourceNotReachableException("Unable to retrieve get number of devices on network.", ex);
+	private void populateNumberOfDevice() {
+		if (shardCount > 1 && shardMode == ShardMode.PLAYER) {
+			// The count endpoint cannot filter on the player shard, the count comes from the device list walks
+			deviceCountTimestamp = System.currentTimeMillis();
+			return;
+		}
+		for (NetworkContext network : networkContexts) {
+			try {
+				inNetwork(network, () -> {
+					checkAuthentication();
+					refreshGroups(network);
+					if (!hasMatchingGroup(network)) {
+						network.setDeviceCount(0);
+						return null;
+					}
+					if (shardCount > 1 && shardMode == ShardMode.GROUP && getShardGroupIds() == null) {
+						// Without the shard filter the count would cover the whole fleet, the count of the network comes from its device list walks
+						return null;
+					}
+					String response = executeGet(BrightSignBSNCloudCommand.GET_NUMBER_OF_DEVICES + createParamFilter(), String.class);
+					network.setDeviceCount(Integer.parseInt(response.trim()));
+					return null;
+				});
+			} catch (CommandFailureException ex) {
+				if (!ex.getResponse().contains("Unsupported value")) {
+					throw new ResourceNotReachableException("Unable to retrieve get number of devices on network.", ex);
+				}
+				network.setDeviceCount(0);
+			} catch (Exception e) {
+				throw new ResourceNotReachableException("Unable to retrieve get number of devices on network.", e);
 			}
-			stats.put("NumberOfDevices", "0");
-		} catch (Exception e) {
-			throw new ResourceNotReachableException("Unable to retrieve get number of devices on network.", e);
 		}
+		updateNumberOfDevices();
+	}
+
+	/**
+	 * Sums the device counts of the monitored networks into {@link #numberOfDevices}
+	 */
+	private void updateNumberOfDevices() {
+		numberOfDevices = networkContexts.stream().mapToInt(NetworkContext::getDeviceCount).sum();
+		deviceCountTimestamp = System.currentTimeMillis();
+	}
+
+	/**
+	 * Populates fleet summary statistics from the incrementally maintained {@link #fleetStatistics} counters.
+	 *
+	 * @param stats a map to store fleet summary as key-value pairs
+	 */
+	private void populateFleetStatistics(Map<String, String> stats) {
+		fleetStatistics.getHealthCounts().forEach((key, value) -> stats.put("FleetHealth#" + key, String.valueOf(value)));
+		fleetStatistics.getModelCounts().forEach((key, value) -> stats.put("FleetModels#" + key, String.valueOf(value)));
+		fleetStatistics.getFirmwareCounts().forEach((key, value) -> stats.put("FleetBrightSignOSVersions#" + key, String.valueOf(value)));
+		fleetStatistics.getGroupCounts().forEach((key, value) -> stats.put("FleetGroups#" + key, String.valueOf(value)));
+		stats.put("FleetStorage#SizeTotal(GB)", convertBytesToGigabytes(String.valueOf(fleetStatistics.getTotalStorage())));
+		stats.put("FleetStorage#SizeFree(GB)", convertBytesToGigabytes(String.valueOf(fleetStatistics.getFreeStorage())));
+	}
+
+	/**
+	 * Populates fleet-wide reboot and health change statistics recorded by {@link #transitionDetector}.
+	 *
+	 * @param stats a map to store fleet transitions as key-value pairs
+	 */
+	private void populateFleetTransitions(Map<String, String> stats) {
+		long since = System.currentTimeMillis() - BrightSignBSNCloudConstant.TRANSITION_COUNT_PERIOD;
+		stats.put("FleetTransitions#RebootCount24h", String.valueOf(transitionDetector.countFleet(DeviceTransition.Type.REBOOT, since)));
+		stats.put("FleetTransitions#HealthChangeCount24h", String.valueOf(transitionDetector.countFleet(DeviceTransition.Type.HEALTH_CHANGE, since)));
+		DeviceTransition reboot = transitionDetector.getFleetLatest(DeviceTransition.Type.REBOOT);
+		stats.put("FleetTransitions#LastRebootDevice", reboot == null ? BrightSignBSNCloudConstant.NONE : getDefaultValueForNullData(reboot.getDeviceName()));
+		stats.put("FleetTransitions#LastRebootTime", reboot == null ? BrightSignBSNCloudConstant.NONE : formatTimestamp(reboot.getTimestamp()));
+		DeviceTransition healthChange = transitionDetector.getFleetLatest(DeviceTransition.Type.HEALTH_CHANGE);
+		stats.put("FleetTransitions#LastHealthChangeDevice", healthChange == null ? BrightSignBSNCloudConstant.NONE : getDefaultValueForNullData(healthChange.getDeviceName()));
+		stats.put("FleetTransitions#LastHealthChange", healthChange == null ? BrightSignBSNCloudConstant.NONE : healthChange.getPreviousValue() + " -> " + healthChange.getCurrentValue());
+		stats.put("FleetTransitions#LastHealthChangeTime", healthChange == null ? BrightSignBSNCloudConstant.NONE : formatTimestamp(healthChange.getTimestamp()));
 	}
 
 	/**
-	 * Creates a parameter filter string for querying based on provided status, model, and group name filters.
+	 * Creates a parameter filter string for querying based on provided status, model, and group name filters,
+	 * and the groups owned by the shard of this instance when the fleet is sharded by group.
+	 * Group names are sent as group ids once the groups of the current network are known.
 	 * The filters are concatenated with "AND" if more than one is present.
 	 *
 	 * @return a filter string in the format "?filter=[Status].[Health] IS IN ('value1', 'value2') AND [Model] IS IN ('value1', 'value2')..."
@@ -878,8 +3004,26 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 			if (isFirstFilterAdded) {
 				param.append(" AND ");
 			}
-			param.append("[Status].[Group].[Name] IS IN (")
-					.append(convertToQuotedCSV(filterByGroupName))
+			String groupIds = resolveGroupNameFilter(getCurrentNetwork());
+			if (groupIds != null) {
+				param.append("[Status].[Group].[ID] IS IN (")
+						.append(groupIds)
+						.append(")");
+			} else {
+				param.append("[Status].[Group].[Name] IS IN (")
+						.append(convertToQuotedCSV(filterByGroupName))
+						.append(")");
+			}
+			isFirstFilterAdded = true;
+		}
+
+		String shardGroupIds = getShardGroupIds();
+		if (StringUtils.isNotNullOrEmpty(shardGroupIds)) {
+			if (isFirstFilterAdded) {
+				param.append(" AND ");
+			}
+			param.append("[Status].[Group].[ID] IS IN (")
+					.append(shardGroupIds)
 					.append(")");
 		}
 		return param.toString();
@@ -899,40 +3043,388 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 	}
 
 	/**
-	 * Populates device details by making a POST request to retrieve information from Bright Sign.
-	 * The method clears the existing aggregated device list, processes the response, and updates the list accordingly.
-	 * Any error during the process is logged.
+	 * Calculates the delay before the next device collection cycle from the current polling interval and {@link #pollingJitter}
+	 *
+	 * @return delay in milliseconds
+	 */
+	private long calculateNextCycleDelay() {
+		long jitter = pollingJitter > 0 ? ThreadLocalRandom.current().nextLong(pollingJitter + 1) : 0;
+		long interval = Math.max(0, getCurrentPollingInterval());
+		int failures = consecutiveCycleFailures;
+		if (failures > 0) {
+			long backoff = interval * (1L << Math.min(failures, 16));
+			interval = Math.max(interval, Math.min(backoff, maxPollingInterval));
+			interval = Math.max(interval, circuitBreaker.getRemainingOpenTime(circuitBreakerOpenTime));
+		}
+		return interval + jitter;
+	}
+
+	/**
+	 * Retrieves the polling interval used for the next cycle, {@link #pollingInterval} unless {@link #adaptivePolling} is enabled
+	 *
+	 * @return polling interval in milliseconds
+	 */
+	private long getCurrentPollingInterval() {
+		return adaptivePolling ? pollingController.getInterval(pollingInterval) : pollingInterval;
+	}
+
+	/**
+	 * Populates the polling interval currently used and the reason it was chosen, the age of the cached data
+	 * and the state of {@link #circuitBreaker}.
+	 *
+	 * @param stats a map to store polling statistics as key-value pairs
+	 */
+	private void populatePollingStatistics(Map<String, String> stats) {
+		stats.put("Polling#Interval(ms)", String.valueOf(getCurrentPollingInterval()));
+		stats.put("Polling#IntervalReason", adaptivePolling ? pollingController.getReason() : "Fixed");
+		stats.put("Polling#LastCycleDuration(ms)", String.valueOf(lastCycleDuration));
+		stats.put("Polling#PageSize", String.valueOf(pageSizeController.getPageSize(minPageSize, maxPageSize)));
+		stats.put("Polling#LastPageLatency(ms)", String.valueOf(pageSizeController.getLastLatency()));
+		stats.put("Polling#PageSizeReductions", String.valueOf(pageSizeController.getReductions()));
+		stats.put("Polling#ChangeRate(%)", round(pollingController.getAverageChangeRate() * 100, 2));
+		if (staggerCycles) {
+			int slot = cycleSlot;
+			stats.put("Polling#CycleSlot", slot == CycleSlotCoordinator.NO_SLOT ? BrightSignBSNCloudConstant.NONE : String.valueOf(slot));
+			stats.put("Polling#CycleSlotOffset(ms)", String.valueOf(cycleStartDelay));
+		}
+		long lastSuccess = lastSuccessfulCycleTimestamp;
+		stats.put("Polling#LastSuccessfulCycle", lastSuccess == 0 ? BrightSignBSNCloudConstant.NONE : formatTimestamp(lastSuccess));
+		stats.put("Polling#DataAge(s)", lastSuccess == 0 ? BrightSignBSNCloudConstant.NONE : String.valueOf(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - lastSuccess)));
+		stats.put("Polling#ConsecutiveFailures", String.valueOf(consecutiveCycleFailures));
+		stats.put("CircuitBreaker#State", circuitBreaker.getState().getName());
+		stats.put("CircuitBreaker#ConsecutiveFailures", String.valueOf(circuitBreaker.getConsecutiveFailures()));
+		stats.put("CircuitBreaker#ShortCircuitedRequests", String.valueOf(circuitBreaker.getShortCircuitedRequests()));
+		long opened = circuitBreaker.getOpenedTimestamp();
+		stats.put("CircuitBreaker#LastOpened", opened == 0 ? BrightSignBSNCloudConstant.NONE : formatTimestamp(opened));
+	}
+
+	/**
+	 * Populates device details by walking the device list pages of Bright Sign, for every monitored network.
+	 * The networks take turns page by page, so a large network does not hold back the small ones.
+	 * The method upserts received devices into the cache, and once the last page of a network is received, removes the devices
+	 * of that network that were not part of the walk. Page sizes are chosen by {@link #pageSizeController}.
+	 * On error the cached devices are kept and served until a request succeeds again, the error is logged,
+	 * and the next cycle resumes the walk of the network from the failed page.
+	 * The cycle is counted in {@link #consecutiveCycleFailures} when the walk of every network failed.
 	 */
 	private void populateDeviceDetails() {
+		if (networkContexts.isEmpty()) {
+			initLoginInfo();
+		}
+		List<NetworkContext> pending = new ArrayList<>(networkContexts);
+		int networkCount = pending.size();
+		int failedNetworks = 0;
+		while (!pending.isEmpty() && !Thread.currentThread().isInterrupted()) {
+			for (Iterator<NetworkContext> iterator = pending.iterator(); iterator.hasNext(); ) {
+				NetworkContext network = iterator.next();
+				try {
+					inNetwork(network, () -> {
+						checkAuthentication();
+						if (StringUtils.isNullOrEmpty(network.getNextMarker())) {
+							refreshGroups(network);
+						}
+						populateDevicePage(network);
+						return null;
+					});
+					if (StringUtils.isNullOrEmpty(network.getNextMarker())) {
+						iterator.remove();
+					}
+				} catch (CommandFailureException ex) {
+					failedNetworks++;
+					iterator.remove();
+					logger.error(String.format("Unable to retrieve devices of network %s, serving cached data of %d devices: %s", network.getName(), cachedData.size(), ex.getResponse()), ex);
+				} catch (Exception e) {
+					failedNetworks++;
+					iterator.remove();
+					logger.error(String.format("Error while populate aggregated device of network %s, serving cached data of %d devices", network.getName(), cachedData.size()), e);
+				}
+			}
+		}
+		if (failedNetworks < networkCount) {
+			consecutiveCycleFailures = 0;
+			lastSuccessfulCycleTimestamp = System.currentTimeMillis();
+		} else {
+			consecutiveCycleFailures++;
+		}
+	}
+
+	/**
+	 * Retrieves one page of the device list of a network and records its response time, payload size or failure in {@link #pageSizeController}.
+	 *
+	 * @param network network whose device list is walked
+	 * @throws Exception if the page request fails
+	 */
+	private void populateDevicePage(NetworkContext network) throws Exception {
+		if (StringUtils.isNullOrEmpty(network.getNextMarker())) {
+			network.setWalkFromFirstPage(true);
+		}
+		if (!hasMatchingGroup(network)) {
+			// None of the filtered group names exists in the network, the walk ends without requesting an empty page
+			network.setNextMarker(BrightSignBSNCloudConstant.EMPTY);
+			network.setDeviceCount(0);
+			updateNumberOfDevices();
+			network.setWalkFromFirstPage(false);
+			removeDevicesMissingFromWalk(network);
+			return;
+		}
+		int pageSize = pageSizeController.getPageSize(minPageSize, maxPageSize);
+		String request = BrightSignBSNCloudCommand.GET_ALL_DEVICES + createParamFilter() + createPageSizeParam(pageSize, network.getNextMarker());
+		long start = System.nanoTime();
+		String payload;
+		try {
+			payload = executeGet(request, String.class);
+		} catch (Exception e) {
+			if (e instanceof CommandFailureException && ((CommandFailureException) e).getStatusCode() != HttpStatus.TOO_MANY_REQUESTS.value() || isTimeout(e)) {
+				pageSizeController.recordError(minPageSize, maxPageSize);
+			}
+			throw e;
+		}
+		long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		JsonNode response = StringUtils.isNullOrEmpty(payload) ? null : objectMapper.readTree(payload);
+		if (response != null && response.has(BrightSignBSNCloudConstant.ITEMS)) {
+			JsonNode items = response.get(BrightSignBSNCloudConstant.ITEMS);
+			pageSizeController.recordPage(pageSize, items.size(), latency, payload.length(), minPageSize, maxPageSize, pageTargetLatency, maxPageBytes);
+			for (JsonNode jsonNode : items) {
+				JsonNode node = objectMapper.createArrayNode().add(jsonNode);
+				for (AggregatedDevice device : aggregatedDeviceProcessor.extractDevices(node)) {
+					if (isOwnedByShard(device)) {
+						upsertCachedDevice(network, device);
+					}
+				}
+			}
+			network.setNextMarker(BrightSignBSNCloudConstant.EMPTY);
+			if (response.has("isTruncated") && BrightSignBSNCloudConstant.TRUE.equalsIgnoreCase(response.get("isTruncated").asText())) {
+				network.setNextMarker(response.get("nextMarker").asText());
+			} else {
+				if (network.isWalkFromFirstPage()) {
+					network.setDeviceCount(network.getWalkDeviceIds().size());
+					updateNumberOfDevices();
+				}
+				network.setWalkFromFirstPage(false);
+				removeDevicesMissingFromWalk(network);
+			}
+		} else {
+			network.setNextMarker(BrightSignBSNCloudConstant.EMPTY);
+		}
+	}
+
+	/**
+	 * Checks whether a device belongs to the shard of this instance, by its player serial or its group id depending on {@link #shardMode}
+	 *
+	 * @param device device extracted from the BSN.cloud response
+	 * @return true if the device is monitored by this instance
+	 */
+	private boolean isOwnedByShard(AggregatedDevice device) {
+		if (shardCount <= 1) {
+			return true;
+		}
+		Map<String, String> properties = device.getProperties() == null ? Collections.emptyMap() : device.getProperties();
+		String key = shardMode == ShardMode.GROUP ? properties.get(AggregatedInformation.ID.getName())
+				: Optional.ofNullable(properties.get(AggregatedInformation.PLAYER_ID.getName())).orElse(device.getDeviceId());
+		return ShardAssigner.owns(key, shardIndex, shardCount);
+	}
+
+	/**
+	 * Retrieves the groups of a network when they are older than {@link #groupsTtl} and either {@link #filterByGroupName} is set
+	 * or the fleet is sharded by group, so both filters can be sent to BSN.cloud as group ids.
+	 * Filtered group names missing from the network are reported once the groups are retrieved.
+	 * Until the groups are known, group names are sent as is and shard devices are filtered once received.
+	 *
+	 * @param network network whose groups are retrieved
+	 */
+	private void refreshGroups(NetworkContext network) {
+		boolean shardByGroup = shardCount > 1 && shardMode == ShardMode.GROUP;
+		if (!shardByGroup && StringUtils.isNullOrEmpty(filterByGroupName) || System.currentTimeMillis() - network.getGroupsTimestamp() < groupsTtl) {
+			return;
+		}
 		try {
-			JsonNode response = this.doGet(BrightSignBSNCloudCommand.GET_ALL_DEVICES + createParamFilter() + createPageSizeParam(), JsonNode.class);
-			if (response != null && response.has(BrightSignBSNCloudConstant.ITEMS)) {
-				for (JsonNode jsonNode : response.get(BrightSignBSNCloudConstant.ITEMS)) {
-					JsonNode node = objectMapper.createArrayNode().add(jsonNode);
-					String id = jsonNode.get("id").asText();
-					cachedData.removeIf(item -> item.getDeviceId().equals(id));
-					cachedData.addAll(aggregatedDeviceProcessor.extractDevices(node));
+			Map<String, String> groups = new LinkedHashMap<>();
+			String marker = BrightSignBSNCloudConstant.EMPTY;
+			do {
+				String request = BrightSignBSNCloudCommand.GET_GROUPS + "?pageSize=" + BrightSignBSNCloudConstant.GROUPS_PAGE_SIZE
+						+ (StringUtils.isNullOrEmpty(marker) ? BrightSignBSNCloudConstant.EMPTY : "&nextMarker=" + marker);
+				JsonNode response = executeGet(request, JsonNode.class);
+				for (JsonNode item : response.path(BrightSignBSNCloudConstant.ITEMS)) {
+					groups.put(item.path(BrightSignBSNCloudConstant.ID).asText(), item.path(BrightSignBSNCloudConstant.NAME).asText());
 				}
-				nextMarker = BrightSignBSNCloudConstant.EMPTY;
-				if (response.has("isTruncated") && BrightSignBSNCloudConstant.TRUE.equalsIgnoreCase(response.get("isTruncated").asText())) {
-					nextMarker = response.get("nextMarker").asText();
+				marker = response.path("isTruncated").asBoolean(false) ? response.path("nextMarker").asText() : BrightSignBSNCloudConstant.EMPTY;
+			} while (StringUtils.isNotNullOrEmpty(marker));
+			network.setGroups(groups, System.currentTimeMillis());
+			if (StringUtils.isNotNullOrEmpty(filterByGroupName)) {
+				Set<String> unknownNames = getFilteredGroupNames();
+				unknownNames.removeAll(groups.values());
+				if (!unknownNames.isEmpty()) {
+					logger.warn(String.format("Groups %s of filterByGroupName do not exist in network %s and are ignored", unknownNames, network.getName()));
 				}
 			}
-		} catch (CommandFailureException ex) {
-			cachedData.clear();
-			logger.error(ex.getResponse(), ex);
 		} catch (Exception e) {
-			logger.error("Error while populate aggregated device", e);
+			logger.warn(String.format("Unable to retrieve the groups of network %s, group filters are sent by name and shard filter is applied to the received devices", network.getName()), e);
+		}
+	}
+
+	/**
+	 * Retrieves the group names of {@link #filterByGroupName}
+	 *
+	 * @return trimmed non-empty group names
+	 */
+	private Set<String> getFilteredGroupNames() {
+		if (StringUtils.isNullOrEmpty(filterByGroupName)) {
+			return new LinkedHashSet<>();
+		}
+		return Arrays.stream(filterByGroupName.split(BrightSignBSNCloudConstant.COMMA)).map(String::trim).filter(StringUtils::isNotNullOrEmpty)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	/**
+	 * Resolves the group names of {@link #filterByGroupName} to the ids of the groups of a network
+	 *
+	 * @param network network the names are resolved in
+	 * @return comma separated group ids, empty if no name exists in the network, null if the groups of the network are unknown
+	 */
+	private String resolveGroupNameFilter(NetworkContext network) {
+		if (network == null || network.getGroupsTimestamp() == 0) {
+			return null;
+		}
+		Set<String> names = getFilteredGroupNames();
+		return network.getGroups().entrySet().stream().filter(entry -> names.contains(entry.getValue())).map(Map.Entry::getKey)
+				.collect(Collectors.joining(BrightSignBSNCloudConstant.COMMA));
+	}
+
+	/**
+	 * Checks whether devices of a network can match {@link #filterByGroupName}
+	 *
+	 * @param network network to check
+	 * @return false if the groups of the network are known and none of the filtered group names exists in it
+	 */
+	private boolean hasMatchingGroup(NetworkContext network) {
+		if (StringUtils.isNullOrEmpty(filterByGroupName)) {
+			return true;
+		}
+		String groupIds = resolveGroupNameFilter(network);
+		return groupIds == null || !groupIds.isEmpty();
+	}
+
+	/**
+	 * Retrieves the ids of the groups of the current network owned by the shard of this instance
+	 *
+	 * @return comma separated group ids, null if the fleet is not sharded by group, the groups are unknown or none is owned
+	 */
+	private String getShardGroupIds() {
+		NetworkContext network = getCurrentNetwork();
+		if (shardCount <= 1 || shardMode != ShardMode.GROUP || network == null) {
+			return null;
+		}
+		String ids = network.getGroups().keySet().stream().filter(id -> ShardAssigner.owns(id, shardIndex, shardCount)).collect(Collectors.joining(BrightSignBSNCloudConstant.COMMA));
+		return StringUtils.isNullOrEmpty(ids) ? null : ids;
+	}
+
+	/**
+	 * Populates the shard of this instance, the number of devices it owns and whether the shard filter is sent to BSN.cloud
+	 *
+	 * @param stats a map to store sharding statistics as key-value pairs
+	 */
+	private void populateShardingStatistics(Map<String, String> stats) {
+		if (shardCount <= 1) {
+			return;
+		}
+		stats.put("Sharding#ShardIndex", String.valueOf(shardIndex));
+		stats.put("Sharding#ShardCount", String.valueOf(shardCount));
+		stats.put("Sharding#Mode", shardMode.getName());
+		stats.put("Sharding#OwnedDevices", String.valueOf(cachedData.size()));
+		boolean serverSide = shardMode == ShardMode.GROUP && networkContexts.stream().allMatch(network -> !network.getGroups().isEmpty());
+		stats.put("Sharding#ServerSideFilter", String.valueOf(serverSide));
+	}
+
+	/**
+	 * Checks whether an exception was caused by a timed out connection or read
+	 *
+	 * @param e exception to check
+	 * @return true if a {@link SocketTimeoutException} is part of the cause chain
+	 */
+	private boolean isTimeout(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SocketTimeoutException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Inserts or replaces a device in the cache under the key of its network, and updates the fleet statistics
+	 *
+	 * @param network network the device was received from
+	 * @param device device extracted from the BSN.cloud response, its id is replaced by its key
+	 */
+	private void upsertCachedDevice(NetworkContext network, AggregatedDevice device) {
+		String id = network.createKey(device.getDeviceId());
+		device.setDeviceId(id);
+		network.getWalkDeviceIds().add(id);
+		AggregatedDevice previous = cachedData.put(id, device);
+		deviceUpdateTimestamps.put(id, System.currentTimeMillis());
+		fleetStatistics.update(device, network.getKeyPrefix());
+		boolean transition = transitionDetector.detect(previous, device, System.currentTimeMillis());
+		if (previous == null || transition || hasPublishedChange(previous, device)) {
+			deviceVersions.put(id, deviceVersionCounter.incrementAndGet());
+			cycleChangedDevices++;
+		}
+	}
+
+	/**
+	 * Checks whether a device changed in a way worth publishing. The uptime, the last connection time and the storage usage
+	 * change on every poll, they are ignored here and published by the periodic full publish or along with another change.
+	 *
+	 * @param previous previous state of the device
+	 * @param current current state of the device
+	 * @return true if the name, model, online state or a published property other than the per-poll ones changed
+	 */
+	private boolean hasPublishedChange(AggregatedDevice previous, AggregatedDevice current) {
+		if (!Objects.equals(previous.getDeviceOnline(), current.getDeviceOnline()) || !Objects.equals(previous.getDeviceName(), current.getDeviceName())
+				|| !Objects.equals(previous.getDeviceModel(), current.getDeviceModel())) {
+			return true;
+		}
+		Map<String, String> previousProperties = previous.getProperties() == null ? Collections.emptyMap() : previous.getProperties();
+		Map<String, String> currentProperties = current.getProperties() == null ? Collections.emptyMap() : current.getProperties();
+		for (AggregatedInformation property : AggregatedInformation.values()) {
+			if (property == AggregatedInformation.UPTIME || property == AggregatedInformation.LAST_CONNECTED || property == AggregatedInformation.STORAGE) {
+				continue;
+			}
+			if (!Objects.equals(previousProperties.get(property.getName()), currentProperties.get(property.getName()))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Removes cached devices of a network that were not received during its completed device list walk
+	 *
+	 * @param network network whose walk completed
+	 */
+	private void removeDevicesMissingFromWalk(NetworkContext network) {
+		Set<String> walkDeviceIds = network.getWalkDeviceIds();
+		for (String id : new ArrayList<>(cachedData.keySet())) {
+			if (network.ownsKey(id) && !walkDeviceIds.contains(id)) {
+				cachedData.remove(id);
+				fleetStatistics.remove(id);
+				transitionDetector.remove(id);
+				deviceVersions.remove(id);
+				commandStatuses.remove(id);
+				deviceUpdateTimestamps.remove(id);
+			}
 		}
+		walkDeviceIds.clear();
 	}
 
 	/**
-	 * Creates a query parameter string for pagination based on the number of devices and the next marker.
+	 * Creates a query parameter string for pagination based on the page size and the next marker.
 	 *
+	 * @param pageSize number of devices requested in the page
+	 * @param nextMarker marker of the page to retrieve, empty for the first page
 	 * @return A string representing the pagination parameters for a query.
 	 */
-	private String createPageSizeParam() {
-		String result = "&pageSize=" + numberOfDevices;
+	private String createPageSizeParam(int pageSize, String nextMarker) {
+		String result = "&pageSize=" + pageSize;
 		if (StringUtils.isNotNullOrEmpty(nextMarker)) {
 			result += "&nextMarker=" + nextMarker;
 		}
@@ -941,32 +3433,173 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 
 	/**
 	 * Clones and populates a new list of aggregated devices with mapped monitoring properties.
+	 * When {@link #deltaPublish} is enabled, only devices whose version is newer than the previously published one
+	 * are included, except for the periodic full publish every {@link #fullPublishInterval}.
 	 *
 	 * @return A new list of {@link AggregatedDevice} objects with mapped monitoring properties.
 	 */
 	private List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
 		aggregatedDeviceList.clear();
-		synchronized (cachedData) {
-			for (AggregatedDevice item : cachedData) {
-				AggregatedDevice aggregatedDevice = new AggregatedDevice();
-				Map<String, String> cachedValue = item.getProperties();
-				aggregatedDevice.setDeviceId(item.getDeviceId());
-				aggregatedDevice.setDeviceModel(item.getDeviceModel());
-				aggregatedDevice.setDeviceName(item.getDeviceName());
-				aggregatedDevice.setDeviceOnline(item.getDeviceOnline());
-
-				Map<String, String> stats = new HashMap<>();
-				List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
-				mapMonitoringProperty(cachedValue, stats);
-				mapControllableProperty(stats, advancedControllableProperties);
-				aggregatedDevice.setProperties(stats);
-				aggregatedDevice.setControllableProperties(advancedControllableProperties);
-				aggregatedDeviceList.add(aggregatedDevice);
+		long currentTimestamp = System.currentTimeMillis();
+		long publishedVersion = deviceVersionCounter.get();
+		boolean fullPublish = !deltaPublish || currentTimestamp - lastFullPublishTimestamp >= fullPublishInterval;
+		Set<String> changedGroupIds = new HashSet<>();
+		for (AggregatedDevice item : cachedData.values()) {
+			if (!fullPublish && deviceVersions.getOrDefault(item.getDeviceId(), Long.MAX_VALUE) <= lastPublishedVersion) {
+				continue;
 			}
+			changedGroupIds.add(createGroupKey(item));
+			aggregatedDeviceList.add(createPublishedDevice(item));
+		}
+		if (displayGroupAggregates) {
+			populateGroupAggregatedDevices(fullPublish ? null : changedGroupIds);
 		}
+		if (fullPublish) {
+			lastFullPublishTimestamp = currentTimestamp;
+		}
+		lastPublishedVersion = publishedVersion;
 		return aggregatedDeviceList;
 	}
 
+	/**
+	 * Creates the published copy of a cached device with mapped monitoring properties and controls
+	 *
+	 * @param item cached device
+	 * @return published device
+	 */
+	private AggregatedDevice createPublishedDevice(AggregatedDevice item) {
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		Map<String, String> cachedValue = item.getProperties();
+		aggregatedDevice.setDeviceId(item.getDeviceId());
+		aggregatedDevice.setDeviceModel(item.getDeviceModel());
+		aggregatedDevice.setDeviceName(item.getDeviceName());
+		aggregatedDevice.setDeviceOnline(item.getDeviceOnline());
+
+		Map<String, String> stats = new HashMap<>();
+		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+		mapMonitoringProperty(cachedValue, stats);
+		mapTransitionProperty(item.getDeviceId(), stats);
+		mapCommandProperty(item.getDeviceId(), stats);
+		Long updateTimestamp = deviceUpdateTimestamps.get(item.getDeviceId());
+		stats.put("LastDataUpdate", updateTimestamp == null ? BrightSignBSNCloudConstant.NONE : formatTimestamp(updateTimestamp));
+		if (networkContexts.size() > 1) {
+			stats.put("NetworkName", getNetworkName(item.getDeviceId()));
+		}
+		mapControllableProperty(stats, advancedControllableProperties);
+		aggregatedDevice.setProperties(stats);
+		aggregatedDevice.setControllableProperties(advancedControllableProperties);
+		return aggregatedDevice;
+	}
+
+	/**
+	 * Creates the key of the group of a cached device, matching the group ids of {@link #fleetStatistics}
+	 *
+	 * @param item cached device
+	 * @return key of the group, {@link BrightSignBSNCloudConstant#NONE} for a device without a group
+	 */
+	private String createGroupKey(AggregatedDevice item) {
+		String groupId = item.getProperties().get(AggregatedInformation.ID.getName());
+		if (StringUtils.isNullOrEmpty(groupId) || "null".equalsIgnoreCase(groupId)) {
+			return BrightSignBSNCloudConstant.NONE;
+		}
+		NetworkContext network = getKeyNetwork(item.getDeviceId());
+		return network == null ? groupId : network.createKey(groupId);
+	}
+
+	/**
+	 * Retrieves the name of the network a cached device or group belongs to
+	 *
+	 * @param key key of the device or group, see {@link NetworkContext#createKey(String)}
+	 * @return name of the network, {@link BrightSignBSNCloudConstant#NONE} if unknown
+	 */
+	private String getNetworkName(String key) {
+		NetworkContext network = getKeyNetwork(key);
+		return network == null ? BrightSignBSNCloudConstant.NONE : network.getName();
+	}
+
+	/**
+	 * Adds one pseudo-device per BSN group to {@link #aggregatedDeviceList}, built from the incrementally maintained
+	 * group summaries of {@link #fleetStatistics}.
+	 *
+	 * @param groupIds ids of the groups to add, or null to add every group
+	 */
+	private void populateGroupAggregatedDevices(Set<String> groupIds) {
+		for (FleetStatistics.GroupSummary summary : fleetStatistics.getGroupSummaries()) {
+			if (groupIds == null || groupIds.contains(summary.getGroupId())) {
+				aggregatedDeviceList.add(createGroupAggregatedDevice(summary));
+			}
+		}
+	}
+
+	/**
+	 * Creates the pseudo-device of a BSN group
+	 *
+	 * @param summary summary of the group
+	 * @return group pseudo-device
+	 */
+	private AggregatedDevice createGroupAggregatedDevice(FleetStatistics.GroupSummary summary) {
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceId(BrightSignBSNCloudConstant.GROUP_DEVICE_ID_PREFIX + summary.getGroupId());
+		aggregatedDevice.setDeviceName(summary.getGroupName());
+		aggregatedDevice.setDeviceModel(BrightSignBSNCloudConstant.GROUP_DEVICE_MODEL);
+		aggregatedDevice.setDeviceOnline(summary.getDeviceCount() > 0);
+
+		Map<String, String> stats = new HashMap<>();
+		NetworkContext network = getKeyNetwork(summary.getGroupId());
+		stats.put(AggregatedInformation.ID.getName(), network == null ? summary.getGroupId() : network.getId(summary.getGroupId()));
+		stats.put(AggregatedInformation.NAME.getName(), summary.getGroupName());
+		if (networkContexts.size() > 1) {
+			stats.put("NetworkName", getNetworkName(summary.getGroupId()));
+		}
+		stats.put("NumberOfDevices", String.valueOf(summary.getDeviceCount()));
+		summary.getHealthCounts().forEach((key, value) -> stats.put("Health#" + key, String.valueOf(value)));
+		Map<String, Integer> firmwareCounts = summary.getFirmwareCounts();
+		firmwareCounts.forEach((key, value) -> stats.put("BrightSignOSVersions#" + key, String.valueOf(value)));
+		stats.put("NumberOfBrightSignOSVersions", String.valueOf(firmwareCounts.size()));
+		Long minimumFreeStorage = summary.getMinimumFreeStorage();
+		stats.put("MinimumSizeFree(GB)", minimumFreeStorage == null ? BrightSignBSNCloudConstant.NONE : convertBytesToGigabytes(String.valueOf(minimumFreeStorage)));
+		aggregatedDevice.setProperties(stats);
+		aggregatedDevice.setControllableProperties(new ArrayList<>());
+		return aggregatedDevice;
+	}
+
+	/**
+	 * Populates the aggregator level group reboot controls: a dropdown of the known groups and the reboot buttons for the selected group,
+	 * along with the status of the last reboot of that group.
+	 *
+	 * @param stats a map to store the controls values
+	 * @param advancedControllableProperties a list to store the controls
+	 */
+	private void populateGroupRebootControls(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		List<FleetStatistics.GroupSummary> groups = fleetStatistics.getGroupSummaries();
+		groups.removeIf(item -> BrightSignBSNCloudConstant.NONE.equals(item.getGroupId()));
+		if (groups.isEmpty()) {
+			return;
+		}
+		String groupId = selectedRebootGroupId;
+		if (groups.stream().noneMatch(item -> item.getGroupId().equals(groupId))) {
+			selectedRebootGroupId = groups.get(0).getGroupId();
+		}
+		String[] values = groups.stream().map(FleetStatistics.GroupSummary::getGroupId).toArray(String[]::new);
+		String[] labels = groups.stream().map(FleetStatistics.GroupSummary::getGroupName).toArray(String[]::new);
+		String prefix = BrightSignBSNCloudConstant.GROUP_REBOOT + BrightSignBSNCloudConstant.HASH;
+		addAdvancedControlProperties(advancedControllableProperties, stats,
+				createDropdown(prefix + BrightSignBSNCloudConstant.GROUP_REBOOT_GROUP, values, labels, selectedRebootGroupId), selectedRebootGroupId);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createButton(prefix + BrightSignBSNCloudConstant.REBOOT_GROUP, "Reboot", "Rebooting", 0),
+				BrightSignBSNCloudConstant.NONE);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createButton(prefix + BrightSignBSNCloudConstant.REBOOT_GROUP_WITH_CRASH_REPORT, "Reboot", "Rebooting", 0),
+				BrightSignBSNCloudConstant.NONE);
+		ControlCommandStatus status = commandStatuses.get(BrightSignBSNCloudConstant.GROUP_DEVICE_ID_PREFIX + selectedRebootGroupId);
+		if (status != null) {
+			stats.put(prefix + "LastCommand", status.getCommand());
+			stats.put(prefix + "LastCommandTime", formatTimestamp(status.getSubmittedTimestamp()));
+			stats.put(prefix + "Status", status.getState().getName());
+			if (status.getState() == ControlCommandStatus.State.FAILED) {
+				stats.put(prefix + "Error", getDefaultValueForNullData(status.getError()));
+			}
+		}
+	}
+
 	/**
 	 * Maps controllable properties to the provided stats and advancedControllableProperties lists.
 	 * This method adds buttons for "Reboot Player" and "Reboot with Crash Report" to the advanced controllable properties.
@@ -979,6 +3612,43 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 		addAdvancedControlProperties(advancedControllableProperties, stats, createButton(BrightSignBSNCloudConstant.REBOOT_WITH_CRASH_REPORT, "Reboot", "Rebooting", 0), BrightSignBSNCloudConstant.NONE);
 	}
 
+	/**
+	 * Maps reboot and health change properties recorded by {@link #transitionDetector} for the device.
+	 *
+	 * @param deviceId id of the device
+	 * @param stats The statistics map to store mapped transition properties.
+	 */
+	private void mapTransitionProperty(String deviceId, Map<String, String> stats) {
+		long since = System.currentTimeMillis() - BrightSignBSNCloudConstant.TRANSITION_COUNT_PERIOD;
+		DeviceTransition reboot = transitionDetector.getLatest(deviceId, DeviceTransition.Type.REBOOT);
+		stats.put("Transitions#LastRebootTime", reboot == null ? BrightSignBSNCloudConstant.NONE : formatTimestamp(reboot.getTimestamp()));
+		stats.put("Transitions#RebootCount24h", String.valueOf(transitionDetector.count(deviceId, DeviceTransition.Type.REBOOT, since)));
+		DeviceTransition healthChange = transitionDetector.getLatest(deviceId, DeviceTransition.Type.HEALTH_CHANGE);
+		stats.put("Transitions#LastHealthChange", healthChange == null ? BrightSignBSNCloudConstant.NONE : healthChange.getPreviousValue() + " -> " + healthChange.getCurrentValue());
+		stats.put("Transitions#LastHealthChangeTime", healthChange == null ? BrightSignBSNCloudConstant.NONE : formatTimestamp(healthChange.getTimestamp()));
+	}
+
+	/**
+	 * Maps the status of the last control command of a device
+	 *
+	 * @param deviceId id of the device
+	 * @param stats the statistics map to store the command properties
+	 */
+	private void mapCommandProperty(String deviceId, Map<String, String> stats) {
+		ControlCommandStatus status = commandStatuses.get(deviceId);
+		if (status == null) {
+			return;
+		}
+		stats.put("Command#LastCommand", status.getCommand());
+		stats.put("Command#LastCommandTime", formatTimestamp(status.getSubmittedTimestamp()));
+		stats.put("Command#Status", status.getState().getName());
+		stats.put("Command#Attempts", String.valueOf(status.getAttempts()));
+		stats.put("Command#Latency(ms)", status.getLatency() < 0 ? BrightSignBSNCloudConstant.NONE : String.valueOf(status.getLatency()));
+		if (status.getState() == ControlCommandStatus.State.FAILED) {
+			stats.put("Command#Error", getDefaultValueForNullData(status.getError()));
+		}
+	}
+
 	/**
 	 * Maps monitoring properties from cached values to statistics and advanced control properties.
 	 *
@@ -1173,6 +3843,18 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 		}
 	}
 
+	/**
+	 * Formats an epoch timestamp into the target date-time format with GMT timezone.
+	 *
+	 * @param timestamp epoch timestamp in milliseconds
+	 * @return formatted date-time string
+	 */
+	private String formatTimestamp(long timestamp) {
+		SimpleDateFormat outputFormat = new SimpleDateFormat(BrightSignBSNCloudConstant.TARGET_FORMAT_DATETIME);
+		outputFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+		return outputFormat.format(new Date(timestamp));
+	}
+
 	/**
 	 * Formats uptime from a string representation "hh:mm:ss" into "X hour(s) Y minute(s)" format.
 	 *
@@ -1270,6 +3952,22 @@ public class BrightSignBSNCloudCommunicator extends RestCommunicator implements
 		return new AdvancedControllableProperty(name, new Date(), button, BrightSignBSNCloudConstant.EMPTY);
 	}
 
+	/**
+	 * Create a dropdown.
+	 *
+	 * @param name name of the dropdown
+	 * @param values values of the options
+	 * @param labels labels of the options
+	 * @param initialValue selected value
+	 * @return This returns the instance of {@link AdvancedControllableProperty} type DropDown.
+	 */
+	private AdvancedControllableProperty createDropdown(String name, String[] values, String[] labels, String initialValue) {
+		AdvancedControllableProperty.DropDown dropDown = new AdvancedControllableProperty.DropDown();
+		dropDown.setOptions(values);
+		dropDown.setLabels(labels);
+		return new AdvancedControllableProperty(name, new Date(), dropDown, initialValue);
+	}
+
 	/**
 	 * Add addAdvancedControlProperties if advancedControllableProperties different empty
 	 *
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+/**
+ * AdaptivePageSizeController chooses the page size of the device list requests by hill climbing on the observed throughput.
+ * <ul>
+ * <li> - after each full page the size keeps moving in the same direction while the throughput (devices per second) improves,
+ * and reverses with a smaller step once it drops, so the size settles around the throughput-optimal value</li>
+ * <li> - a page slower than the target latency or larger than the payload limit shrinks the next page</li>
+ * <li> - a failed page halves the size and restarts the search</li>
+ * <li> - the result is kept within the configured minimum and maximum bounds</li>
+ * </ul>
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class AdaptivePageSizeController {
+	/**
+	 * Page size used before any page was recorded, unless outside the bounds
+	 */
+	static final int INITIAL_PAGE_SIZE = 100;
+
+	private static final double INITIAL_STEP = 2;
+	private static final double MIN_STEP = 1.1;
+
+	private int pageSize;
+	private double step = INITIAL_STEP;
+	private boolean growing = true;
+	private double lastThroughput = -1;
+	private long lastLatency;
+	private long reductions;
+
+	/**
+	 * Retrieves the page size of the next request
+	 *
+	 * @param minPageSize minimum page size
+	 * @param maxPageSize maximum page size
+	 * @return page size within the bounds
+	 */
+	public synchronized int getPageSize(int minPageSize, int maxPageSize) {
+		if (pageSize <= 0) {
+			pageSize = INITIAL_PAGE_SIZE;
+		}
+		pageSize = clamp(pageSize, minPageSize, maxPageSize);
+		return pageSize;
+	}
+
+	/**
+	 * Records a received page and chooses the size of the next one
+	 *
+	 * @param requested page size of the request
+	 * @param items number of devices in the response
+	 * @param latency response time in milliseconds
+	 * @param bytes size of the response payload
+	 * @param minPageSize minimum page size
+	 * @param maxPageSize maximum page size
+	 * @param targetLatency response time in milliseconds above which pages shrink
+	 * @param maxPageBytes payload size above which pages shrink, 0 or less for no limit
+	 */
+	public synchronized void recordPage(int requested, int items, long latency, long bytes, int minPageSize, int maxPageSize, long targetLatency, long maxPageBytes) {
+		lastLatency = latency;
+		if (requested != pageSize || items < requested) {
+			// the last page of a walk is partial, its throughput says nothing about the page size
+			return;
+		}
+		int next;
+		if (latency > targetLatency || maxPageBytes > 0 && bytes > maxPageBytes) {
+			next = (int) Math.floor(pageSize / INITIAL_STEP);
+			growing = false;
+			step = INITIAL_STEP;
+			lastThroughput = -1;
+		} else {
+			double throughput = items * 1000.0 / Math.max(1, latency);
+			if (lastThroughput >= 0 && throughput < lastThroughput) {
+				growing = !growing;
+				step = Math.max(MIN_STEP, 1 + (step - 1) / 2);
+			}
+			lastThroughput = throughput;
+			next = growing ? (int) Math.ceil(pageSize * step) : (int) Math.floor(pageSize / step);
+		}
+		if (maxPageBytes > 0 && bytes > 0 && items > 0) {
+			next = (int) Math.min(next, maxPageBytes / Math.max(1, bytes / items));
+		}
+		pageSize = clamp(next, minPageSize, maxPageSize);
+	}
+
+	/**
+	 * Records a failed page request, halving the page size and restarting the search
+	 *
+	 * @param minPageSize minimum page size
+	 * @param maxPageSize maximum page size
+	 */
+	public synchronized void recordError(int minPageSize, int maxPageSize) {
+		pageSize = clamp(Math.max(1, pageSize) / 2, minPageSize, maxPageSize);
+		step = INITIAL_STEP;
+		growing = true;
+		lastThroughput = -1;
+		reductions++;
+	}
+
+	/**
+	 * Retrieves response time of the last received page
+	 *
+	 * @return latency in milliseconds
+	 */
+	public synchronized long getLastLatency() {
+		return lastLatency;
+	}
+
+	/**
+	 * Retrieves {@link #reductions}
+	 *
+	 * @return value of {@link #reductions}, the number of times a failed page halved the page size
+	 */
+	public synchronized long getReductions() {
+		return reductions;
+	}
+
+	/**
+	 * Restarts the search from {@link #INITIAL_PAGE_SIZE}
+	 */
+	public synchronized void reset() {
+		pageSize = 0;
+		step = INITIAL_STEP;
+		growing = true;
+		lastThroughput = -1;
+		lastLatency = 0;
+		reductions = 0;
+	}
+
+	/**
+	 * Keeps a page size within the bounds
+	 *
+	 * @param value page size
+	 * @param minPageSize minimum page size
+	 * @param maxPageSize maximum page size
+	 * @return page size within the bounds
+	 */
+	private static int clamp(int value, int minPageSize, int maxPageSize) {
+		int lower = Math.max(1, Math.min(minPageSize, maxPageSize));
+		int upper = Math.max(lower, maxPageSize);
+		return Math.max(lower, Math.min(upper, value));
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+/**
+ * AdaptivePollingController chooses the device polling interval from the observed cost of a collection cycle,
+ * the fleet size and the recent change rate of the devices.
+ * <ul>
+ * <li> - the interval never drops below cycle duration / API budget fraction, so polling uses at most that share of the time</li>
+ * <li> - the base interval scales linearly with the fleet size, relative to {@link #REFERENCE_FLEET_SIZE} devices</li>
+ * <li> - a high change rate shortens the interval, a quiet fleet lengthens it</li>
+ * <li> - the result is kept within the configured minimum and maximum bounds</li>
+ * </ul>
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class AdaptivePollingController {
+	/**
+	 * Fleet size the base polling interval is defined for
+	 */
+	static final int REFERENCE_FLEET_SIZE = 1000;
+
+	/**
+	 * Weight of the latest sample in the moving averages
+	 */
+	private static final double SMOOTHING_FACTOR = 0.3;
+
+	private double averageCycleDuration = -1;
+	private double averageChangeRate = -1;
+	private long interval;
+	private String reason = "Initial";
+
+	/**
+	 * Records a completed collection cycle and recalculates the polling interval
+	 *
+	 * @param cycleDuration duration of the cycle in milliseconds
+	 * @param deviceCount number of devices in the fleet
+	 * @param changedDevices number of devices changed during the cycle
+	 * @param baseInterval polling interval for a fleet of {@link #REFERENCE_FLEET_SIZE} devices
+	 * @param minInterval minimum polling interval in milliseconds
+	 * @param maxInterval maximum polling interval in milliseconds
+	 * @param apiBudgetFraction share of time polling is allowed to spend calling the API, in the (0, 1] range
+	 */
+	public synchronized void recordCycle(long cycleDuration, int deviceCount, int changedDevices, long baseInterval, long minInterval, long maxInterval,
+			double apiBudgetFraction) {
+		double changeRate = deviceCount > 0 ? Math.min(1.0, (double) changedDevices / deviceCount) : 0;
+		averageCycleDuration = averageCycleDuration < 0 ? cycleDuration : SMOOTHING_FACTOR * cycleDuration + (1 - SMOOTHING_FACTOR) * averageCycleDuration;
+		averageChangeRate = averageChangeRate < 0 ? changeRate : SMOOTHING_FACTOR * changeRate + (1 - SMOOTHING_FACTOR) * averageChangeRate;
+
+		double budget = apiBudgetFraction > 0 && apiBudgetFraction <= 1 ? apiBudgetFraction : 1;
+		double costInterval = averageCycleDuration / budget;
+		double sizeInterval = (double) baseInterval * Math.max(1, deviceCount) / REFERENCE_FLEET_SIZE;
+		double changeFactor = Math.max(0.5, Math.min(1.5, 1.5 - 10 * averageChangeRate));
+		double candidate = sizeInterval * changeFactor;
+		if (costInterval > candidate) {
+			candidate = costInterval;
+			reason = String.format("ApiBudget: cycle of %d ms within %.0f%% budget", Math.round(averageCycleDuration), budget * 100);
+		} else {
+			reason = String.format("FleetSize: %d devices, ChangeRate: %.1f%%", deviceCount, averageChangeRate * 100);
+		}
+		long lower = Math.max(0, Math.min(minInterval, maxInterval));
+		long upper = Math.max(minInterval, maxInterval);
+		if (candidate < lower) {
+			candidate = lower;
+			reason = "MinimumBound, " + reason;
+		} else if (candidate > upper) {
+			candidate = upper;
+			reason = "MaximumBound, " + reason;
+		}
+		interval = Math.round(candidate);
+	}
+
+	/**
+	 * Retrieves the polling interval calculated for the last recorded cycle
+	 *
+	 * @param defaultInterval interval used before the first cycle is recorded
+	 * @return polling interval in milliseconds
+	 */
+	public synchronized long getInterval(long defaultInterval) {
+		return averageCycleDuration < 0 ? defaultInterval : interval;
+	}
+
+	/**
+	 * Retrieves {@link #reason}
+	 *
+	 * @return value of {@link #reason}
+	 */
+	public synchronized String getReason() {
+		return reason;
+	}
+
+	/**
+	 * Retrieves the moving average of the cycle duration
+	 *
+	 * @return average cycle duration in milliseconds, or 0 before the first cycle is recorded
+	 */
+	public synchronized long getAverageCycleDuration() {
+		return Math.max(0, Math.round(averageCycleDuration));
+	}
+
+	/**
+	 * Retrieves the moving average of the change rate
+	 *
+	 * @return average share of changed devices per cycle, or 0 before the first cycle is recorded
+	 */
+	public synchronized double getAverageChangeRate() {
+		return Math.max(0, averageChangeRate);
+	}
+
+	/**
+	 * Resets the recorded cycles
+	 */
+	public synchronized void reset() {
+		averageCycleDuration = -1;
+		averageChangeRate = -1;
+		interval = 0;
+		reason = "Initial";
+	}
+}
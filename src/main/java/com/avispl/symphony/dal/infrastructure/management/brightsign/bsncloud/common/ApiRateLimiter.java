@@ -0,0 +1,234 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * ApiRateLimiter is a token bucket placed in front of every outgoing BSN.cloud request.
+ * A request only takes a token when no request of a higher {@link RequestPriority} is waiting, so control commands
+ * jump ahead of background polling. A {@code 429 Too Many Requests} response blocks every request until its
+ * {@code Retry-After} delay passes.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class ApiRateLimiter {
+	private final ReentrantLock lock = new ReentrantLock(true);
+	private final Condition changed = lock.newCondition();
+	private final int[] waiting = new int[RequestPriority.values().length];
+	private double tokens;
+	private long lastRefill = System.nanoTime();
+	private long blockedUntil;
+	private boolean initialized;
+
+	private long throttledWaits;
+	private long totalWaitTime;
+	private long rejections;
+	private long tooManyRequestsResponses;
+
+	/**
+	 * Takes a token for a request, waiting until one is available
+	 *
+	 * @param priority priority of the request
+	 * @param requestsPerSecond token refill rate
+	 * @param burstSize bucket capacity
+	 * @param maxWait maximum time in milliseconds to wait for a token
+	 * @return time in milliseconds the request waited
+	 * @throws InterruptedException if interrupted while waiting
+	 * @throws ResourceNotReachableException if no token became available within {@code maxWait}
+	 */
+	public long acquire(RequestPriority priority, double requestsPerSecond, int burstSize, long maxWait) throws InterruptedException {
+		long start = System.nanoTime();
+		long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxWait);
+		lock.lock();
+		waiting[priority.ordinal()]++;
+		try {
+			while (true) {
+				long now = System.nanoTime();
+				refill(now, requestsPerSecond, burstSize);
+				long waitNanos;
+				if (blockedUntil - now > 0) {
+					waitNanos = blockedUntil - now;
+				} else if (hasHigherPriorityWaiter(priority)) {
+					waitNanos = TimeUnit.MILLISECONDS.toNanos(50);
+				} else if (tokens >= 1 || requestsPerSecond <= 0) {
+					tokens = Math.max(0, tokens - 1);
+					long waited = TimeUnit.NANOSECONDS.toMillis(now - start);
+					if (waited > 0) {
+						throttledWaits++;
+						totalWaitTime += waited;
+					}
+					changed.signalAll();
+					return waited;
+				} else {
+					waitNanos = (long) ((1 - tokens) / requestsPerSecond * TimeUnit.SECONDS.toNanos(1));
+				}
+				long remaining = deadline - now;
+				if (remaining <= 0) {
+					rejections++;
+					throw new ResourceNotReachableException(String.format("Request with %s priority rejected by the API rate limiter after %d ms", priority, maxWait));
+				}
+				changed.awaitNanos(Math.max(1, Math.min(waitNanos, remaining)));
+			}
+		} finally {
+			waiting[priority.ordinal()]--;
+			changed.signalAll();
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes a token for a request only if one is available right away and no request is waiting for one
+	 *
+	 * @param requestsPerSecond token refill rate
+	 * @param burstSize bucket capacity
+	 * @return true if a token was taken
+	 */
+	public boolean tryAcquire(double requestsPerSecond, int burstSize) {
+		lock.lock();
+		try {
+			long now = System.nanoTime();
+			refill(now, requestsPerSecond, burstSize);
+			if (blockedUntil - now > 0 || hasWaiter()) {
+				return false;
+			}
+			if (tokens >= 1 || requestsPerSecond <= 0) {
+				tokens = Math.max(0, tokens - 1);
+				return true;
+			}
+			return false;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Blocks all requests after a {@code 429 Too Many Requests} response
+	 *
+	 * @param retryAfter delay in milliseconds requested by the API
+	 */
+	public void onTooManyRequests(long retryAfter) {
+		lock.lock();
+		try {
+			tooManyRequestsResponses++;
+			long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, retryAfter));
+			if (until - blockedUntil > 0) {
+				blockedUntil = until;
+			}
+			tokens = 0;
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves number of requests that had to wait for a token
+	 *
+	 * @return number of throttled requests
+	 */
+	public long getThrottledWaits() {
+		lock.lock();
+		try {
+			return throttledWaits;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves total time requests spent waiting for a token
+	 *
+	 * @return wait time in milliseconds
+	 */
+	public long getTotalWaitTime() {
+		lock.lock();
+		try {
+			return totalWaitTime;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves number of requests rejected because no token became available in time
+	 *
+	 * @return number of rejected requests
+	 */
+	public long getRejections() {
+		lock.lock();
+		try {
+			return rejections;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves number of {@code 429 Too Many Requests} responses received
+	 *
+	 * @return number of 429 responses
+	 */
+	public long getTooManyRequestsResponses() {
+		lock.lock();
+		try {
+			return tooManyRequestsResponses;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Adds the tokens accumulated since the last refill
+	 *
+	 * @param now current {@link System#nanoTime()}
+	 * @param requestsPerSecond token refill rate
+	 * @param burstSize bucket capacity
+	 */
+	private void refill(long now, double requestsPerSecond, int burstSize) {
+		if (!initialized) {
+			tokens = Math.max(1, burstSize);
+			initialized = true;
+		}
+		double elapsedSeconds = (double) (now - lastRefill) / TimeUnit.SECONDS.toNanos(1);
+		tokens = Math.min(Math.max(1, burstSize), tokens + elapsedSeconds * Math.max(0, requestsPerSecond));
+		lastRefill = now;
+	}
+
+	/**
+	 * Checks whether a request of higher priority is waiting for a token
+	 *
+	 * @param priority priority of the current request
+	 * @return true if a more urgent request is waiting
+	 */
+	private boolean hasHigherPriorityWaiter(RequestPriority priority) {
+		for (int i = 0; i < priority.ordinal(); i++) {
+			if (waiting[i] > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether any request is waiting for a token
+	 *
+	 * @return true if a request is waiting
+	 */
+	private boolean hasWaiter() {
+		for (int count : waiting) {
+			if (count > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
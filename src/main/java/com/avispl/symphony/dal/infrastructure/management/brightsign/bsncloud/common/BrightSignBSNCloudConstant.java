@@ -20,6 +20,17 @@ public class BrightSignBSNCloudConstant {
 	public static final String TRUE = "true";
 	public static final String FALSE = "false";
 	public static final String ACCESS_TOKEN = "access_token";
+	public static final String REFRESH_TOKEN = "refresh_token";
+	public static final String EXPIRES_IN = "expires_in";
+	public static final long TOKEN_REFRESH_AHEAD = 60 * 1000L;
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 10;
+	public static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 20;
+	public static final int DEFAULT_CONNECTIONS_MAX_IDLE_TIME = 60 * 1000;
+	public static final String ACCEPT_ENCODING = "gzip, deflate";
+	public static final long DNS_CACHE_TTL = 5 * 60 * 1000L;
+	public static final String COMMA = ",";
+	public static final int GROUPS_PAGE_SIZE = 100;
+	public static final String ID = "id";
 	public static final String NAME = "name";
 	public static final String ITEMS = "items";
 	public static final String STATS = "stats";
@@ -33,7 +44,15 @@ public class BrightSignBSNCloudConstant {
 	public static final String DISABLED = "Disabled";
 	public static final String REBOOT_PLAYER = "RebootPlayer";
 	public static final String REBOOT_WITH_CRASH_REPORT = "RebootWithCrashReport";
+	public static final String GROUP_REBOOT = "GroupReboot";
+	public static final String GROUP_REBOOT_GROUP = "Group";
+	public static final String REBOOT_GROUP = "RebootGroup";
+	public static final String REBOOT_GROUP_WITH_CRASH_REPORT = "RebootGroupWithCrashReport";
 	public static final String DEFAULT_FORMAT_DATETIME_WITH_MILLIS  = "yyyy-MM-dd'T'HH:mm:ss.S'Z'";
 	public static final String DEFAULT_FORMAT_DATETIME_WITHOUT_MILLIS  = "yyyy-MM-dd'T'HH:mm:ss.S'Z'";
+	public static final String GROUP_DEVICE_ID_PREFIX = "group_";
+	public static final String GROUP_DEVICE_MODEL = "BSN Group";
+	public static final long TRANSITION_COUNT_PERIOD = 24 * 60 * 60 * 1000L;
+	public static final long DEFAULT_RETRY_AFTER = 5000;
 	public static final String TARGET_FORMAT_DATETIME = "MMM d, yyyy, h:mm a";
 }
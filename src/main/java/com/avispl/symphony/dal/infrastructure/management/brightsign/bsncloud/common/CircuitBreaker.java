@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+/**
+ * CircuitBreaker short-circuits BSN.cloud requests during a sustained outage.
+ * The circuit opens after a number of consecutive failures, rejects every request while open, then lets a single
+ * trial request through once the open duration elapses. A successful trial closes the circuit, a failed one opens it again.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class CircuitBreaker {
+	/**
+	 * State of the circuit
+	 */
+	public enum State {
+		CLOSED("Closed"), OPEN("Open"), HALF_OPEN("HalfOpen");
+
+		private final String name;
+
+		/**
+		 * Constructor for State.
+		 *
+		 * @param name the display name of the state
+		 */
+		State(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Retrieves {@link #name}
+		 *
+		 * @return value of {@link #name}
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedTimestamp;
+	private boolean trialInProgress;
+	private long shortCircuitedRequests;
+
+	/**
+	 * Checks whether a request may be sent
+	 *
+	 * @param openDuration time in milliseconds the circuit stays open before a trial request is allowed
+	 * @return true if the request may be sent, false if it is short-circuited
+	 */
+	public synchronized boolean allowRequest(long openDuration) {
+		if (state == State.OPEN && System.currentTimeMillis() - openedTimestamp >= openDuration) {
+			state = State.HALF_OPEN;
+			trialInProgress = false;
+		}
+		if (state == State.CLOSED || state == State.HALF_OPEN && !trialInProgress) {
+			trialInProgress = state == State.HALF_OPEN;
+			return true;
+		}
+		shortCircuitedRequests++;
+		return false;
+	}
+
+	/**
+	 * Releases a request allowed by {@link #allowRequest(long)} that was not sent, so another request can be the trial request
+	 */
+	public synchronized void releaseRequest() {
+		if (state == State.HALF_OPEN) {
+			trialInProgress = false;
+		}
+	}
+
+	/**
+	 * Records a successful request, closing the circuit
+	 */
+	public synchronized void recordSuccess() {
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		trialInProgress = false;
+	}
+
+	/**
+	 * Records a failed request, opening the circuit once the threshold is reached or when the trial request fails
+	 *
+	 * @param failureThreshold number of consecutive failures that opens the circuit
+	 */
+	public synchronized void recordFailure(int failureThreshold) {
+		consecutiveFailures++;
+		trialInProgress = false;
+		if (state == State.HALF_OPEN || state == State.CLOSED && consecutiveFailures >= Math.max(1, failureThreshold)) {
+			state = State.OPEN;
+			openedTimestamp = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * Retrieves time remaining until a trial request is allowed
+	 *
+	 * @param openDuration time in milliseconds the circuit stays open before a trial request is allowed
+	 * @return remaining time in milliseconds, 0 if the circuit is not open
+	 */
+	public synchronized long getRemainingOpenTime(long openDuration) {
+		return state == State.OPEN ? Math.max(0, openedTimestamp + openDuration - System.currentTimeMillis()) : 0;
+	}
+
+	/**
+	 * Retrieves {@link #state}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public synchronized State getState() {
+		return state;
+	}
+
+	/**
+	 * Retrieves {@link #consecutiveFailures}
+	 *
+	 * @return value of {@link #consecutiveFailures}
+	 */
+	public synchronized int getConsecutiveFailures() {
+		return consecutiveFailures;
+	}
+
+	/**
+	 * Retrieves {@link #openedTimestamp}
+	 *
+	 * @return value of {@link #openedTimestamp}, 0 if the circuit never opened
+	 */
+	public synchronized long getOpenedTimestamp() {
+		return openedTimestamp;
+	}
+
+	/**
+	 * Retrieves {@link #shortCircuitedRequests}
+	 *
+	 * @return value of {@link #shortCircuitedRequests}
+	 */
+	public synchronized long getShortCircuitedRequests() {
+		return shortCircuitedRequests;
+	}
+
+	/**
+	 * Closes the circuit and clears the counters
+	 */
+	public synchronized void reset() {
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		openedTimestamp = 0;
+		trialInProgress = false;
+		shortCircuitedRequests = 0;
+	}
+}
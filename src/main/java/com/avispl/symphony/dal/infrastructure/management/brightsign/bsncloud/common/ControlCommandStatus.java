@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+/**
+ * ControlCommandStatus class represents the state of the last control command submitted for a player.
+ * Instances are immutable, every state change creates a new instance.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class ControlCommandStatus {
+	/**
+	 * State of the command
+	 */
+	public enum State {
+		PENDING("Pending"), SUCCEEDED("Succeeded"), FAILED("Failed");
+
+		private final String name;
+
+		/**
+		 * Constructor for State.
+		 *
+		 * @param name the display name of the state
+		 */
+		State(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Retrieves {@link #name}
+		 *
+		 * @return value of {@link #name}
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+
+	private final String command;
+	private final State state;
+	private final long submittedTimestamp;
+	private final long completedTimestamp;
+	private final int attempts;
+	private final String error;
+
+	/**
+	 * Create an instance of ControlCommandStatus
+	 *
+	 * @param command name of the command
+	 * @param state state of the command
+	 * @param submittedTimestamp time the command was submitted at
+	 * @param completedTimestamp time the command completed at, 0 while pending
+	 * @param attempts number of executed attempts
+	 * @param error error of the last failed attempt
+	 */
+	private ControlCommandStatus(String command, State state, long submittedTimestamp, long completedTimestamp, int attempts, String error) {
+		this.command = command;
+		this.state = state;
+		this.submittedTimestamp = submittedTimestamp;
+		this.completedTimestamp = completedTimestamp;
+		this.attempts = attempts;
+		this.error = error;
+	}
+
+	/**
+	 * Creates the status of a newly submitted command
+	 *
+	 * @param command name of the command
+	 * @param submittedTimestamp time the command was submitted at
+	 * @return pending status
+	 */
+	public static ControlCommandStatus pending(String command, long submittedTimestamp) {
+		return new ControlCommandStatus(command, State.PENDING, submittedTimestamp, 0, 0, null);
+	}
+
+	/**
+	 * Creates the status of the command after a successful attempt
+	 *
+	 * @param attempts number of executed attempts
+	 * @param completedTimestamp time the command completed at
+	 * @return succeeded status
+	 */
+	public ControlCommandStatus succeeded(int attempts, long completedTimestamp) {
+		return new ControlCommandStatus(command, State.SUCCEEDED, submittedTimestamp, completedTimestamp, attempts, null);
+	}
+
+	/**
+	 * Creates the status of the command after its last attempt failed
+	 *
+	 * @param attempts number of executed attempts
+	 * @param error error of the last attempt
+	 * @param completedTimestamp time the command completed at
+	 * @return failed status
+	 */
+	public ControlCommandStatus failed(int attempts, String error, long completedTimestamp) {
+		return new ControlCommandStatus(command, State.FAILED, submittedTimestamp, completedTimestamp, attempts, error);
+	}
+
+	/**
+	 * Retrieves {@link #command}
+	 *
+	 * @return value of {@link #command}
+	 */
+	public String getCommand() {
+		return command;
+	}
+
+	/**
+	 * Retrieves {@link #state}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public State getState() {
+		return state;
+	}
+
+	/**
+	 * Retrieves {@link #submittedTimestamp}
+	 *
+	 * @return value of {@link #submittedTimestamp}
+	 */
+	public long getSubmittedTimestamp() {
+		return submittedTimestamp;
+	}
+
+	/**
+	 * Retrieves {@link #attempts}
+	 *
+	 * @return value of {@link #attempts}
+	 */
+	public int getAttempts() {
+		return attempts;
+	}
+
+	/**
+	 * Retrieves {@link #error}
+	 *
+	 * @return value of {@link #error}
+	 */
+	public String getError() {
+		return error;
+	}
+
+	/**
+	 * Retrieves time between submission and completion of the command
+	 *
+	 * @return latency in milliseconds, or -1 while the command is pending
+	 */
+	public long getLatency() {
+		return state == State.PENDING ? -1 : completedTimestamp - submittedTimestamp;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.BitSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * CycleSlotCoordinator spreads the collection cycles of the communicator instances of the JVM across the polling interval,
+ * so instances started together do not call BSN.cloud in the same second.
+ * Each instance leases the lowest free slot, and slot n starts its cycles at the bit-reversed fraction of n
+ * (0, 1/2, 1/4, 3/4, 1/8...) of the interval. The start times stay evenly spread whatever the number of instances,
+ * and instances that are already running keep their phase when others join or leave.
+ * Phases are relative to the time the first slot of the table was leased. Once every slot is leased,
+ * the start delay falls back to a random jitter within the interval.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class CycleSlotCoordinator {
+	/**
+	 * Slot returned when no slot is available
+	 */
+	public static final int NO_SLOT = -1;
+
+	private static final int MAX_SLOTS = 1024;
+	private static final BitSet leases = new BitSet(MAX_SLOTS);
+	private static long epoch;
+
+	private CycleSlotCoordinator() {
+	}
+
+	/**
+	 * Leases the lowest free slot
+	 *
+	 * @return leased slot, {@link #NO_SLOT} if every slot is leased
+	 */
+	public static synchronized int acquire() {
+		int slot = leases.nextClearBit(0);
+		if (slot >= MAX_SLOTS) {
+			return NO_SLOT;
+		}
+		if (leases.isEmpty()) {
+			epoch = System.currentTimeMillis();
+		}
+		leases.set(slot);
+		return slot;
+	}
+
+	/**
+	 * Releases a leased slot
+	 *
+	 * @param slot slot to release, {@link #NO_SLOT} is ignored
+	 */
+	public static synchronized void release(int slot) {
+		if (slot >= 0 && slot < MAX_SLOTS) {
+			leases.clear(slot);
+		}
+	}
+
+	/**
+	 * Retrieves the phase of a slot within the polling interval
+	 *
+	 * @param slot leased slot
+	 * @return phase in the [0, 1) range, the bit-reversed fraction of the slot
+	 */
+	public static double getPhase(int slot) {
+		if (slot <= 0) {
+			return 0;
+		}
+		return (Integer.reverse(slot) >>> 1) / (double) (1L << 31);
+	}
+
+	/**
+	 * Calculates the delay before the first cycle of a slot, so it starts at the phase of the slot within the interval
+	 *
+	 * @param slot leased slot, {@link #NO_SLOT} for a random delay
+	 * @param interval polling interval in milliseconds
+	 * @return delay in milliseconds, in the [0, interval) range
+	 */
+	public static synchronized long getStartDelay(int slot, long interval) {
+		if (interval <= 0) {
+			return 0;
+		}
+		if (slot < 0) {
+			return ThreadLocalRandom.current().nextLong(interval);
+		}
+		long offset = (long) (getPhase(slot) * interval);
+		long elapsed = (System.currentTimeMillis() - epoch) % interval;
+		return Math.floorMod(offset - elapsed, interval);
+	}
+}
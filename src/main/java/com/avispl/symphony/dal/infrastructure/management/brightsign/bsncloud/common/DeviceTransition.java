@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+/**
+ * DeviceTransition class represents a state transition of a player detected between two polling cycles.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class DeviceTransition {
+	/**
+	 * Type of the transition
+	 */
+	public enum Type {
+		REBOOT, HEALTH_CHANGE
+	}
+
+	private final String deviceId;
+	private final String deviceName;
+	private final Type type;
+	private final long timestamp;
+	private final String previousValue;
+	private final String currentValue;
+
+	/**
+	 * Create an instance of DeviceTransition
+	 *
+	 * @param deviceId id of the device
+	 * @param deviceName name of the device
+	 * @param type type of the transition
+	 * @param timestamp time the transition happened at
+	 * @param previousValue value before the transition
+	 * @param currentValue value after the transition
+	 */
+	public DeviceTransition(String deviceId, String deviceName, Type type, long timestamp, String previousValue, String currentValue) {
+		this.deviceId = deviceId;
+		this.deviceName = deviceName;
+		this.type = type;
+		this.timestamp = timestamp;
+		this.previousValue = previousValue;
+		this.currentValue = currentValue;
+	}
+
+	/**
+	 * Retrieves {@link #deviceId}
+	 *
+	 * @return value of {@link #deviceId}
+	 */
+	public String getDeviceId() {
+		return deviceId;
+	}
+
+	/**
+	 * Retrieves {@link #deviceName}
+	 *
+	 * @return value of {@link #deviceName}
+	 */
+	public String getDeviceName() {
+		return deviceName;
+	}
+
+	/**
+	 * Retrieves {@link #type}
+	 *
+	 * @return value of {@link #type}
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Retrieves {@link #timestamp}
+	 *
+	 * @return value of {@link #timestamp}
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Retrieves {@link #previousValue}
+	 *
+	 * @return value of {@link #previousValue}
+	 */
+	public String getPreviousValue() {
+		return previousValue;
+	}
+
+	/**
+	 * Retrieves {@link #currentValue}
+	 *
+	 * @return value of {@link #currentValue}
+	 */
+	public String getCurrentValue() {
+		return currentValue;
+	}
+}
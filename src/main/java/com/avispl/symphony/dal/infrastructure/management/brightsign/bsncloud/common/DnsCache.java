@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DnsCache keeps resolved host addresses for a limited time, so latency probes measure the round trip to the host
+ * instead of the name resolution.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class DnsCache {
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Resolves a host name, reusing the address resolved earlier while it is younger than the given time to live
+	 *
+	 * @param host host name to resolve
+	 * @param ttl time in milliseconds a resolved address is reused
+	 * @return resolved address
+	 * @throws UnknownHostException if the host cannot be resolved
+	 */
+	public InetAddress resolve(String host, long ttl) throws UnknownHostException {
+		long now = System.currentTimeMillis();
+		Entry entry = entries.get(host);
+		if (entry != null && now - entry.resolvedTimestamp < ttl) {
+			return entry.address;
+		}
+		InetAddress address = InetAddress.getByName(host);
+		entries.put(host, new Entry(address, now));
+		return address;
+	}
+
+	/**
+	 * Drops every resolved address
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Resolved address and the time it was resolved at
+	 */
+	private static class Entry {
+		private final InetAddress address;
+		private final long resolvedTimestamp;
+
+		/**
+		 * Create an instance of Entry
+		 *
+		 * @param address resolved address
+		 * @param resolvedTimestamp time the address was resolved at
+		 */
+		Entry(InetAddress address, long resolvedTimestamp) {
+			this.address = address;
+			this.resolvedTimestamp = resolvedTimestamp;
+		}
+	}
+}
@@ -0,0 +1,368 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.metric.StatusEnum;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * FleetStatistics keeps fleet summary counters up to date as devices are upserted into or removed from the device cache.
+ * Each device contribution is remembered, so an update only subtracts the previous contribution and adds the new one,
+ * which keeps the cost of a device change constant regardless of the fleet size.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class FleetStatistics {
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final Map<String, DeviceContribution> contributions = new HashMap<>();
+	private final Map<String, Integer> healthCounts = new HashMap<>();
+	private final Map<String, Integer> modelCounts = new HashMap<>();
+	private final Map<String, Integer> firmwareCounts = new HashMap<>();
+	private final Map<String, Integer> groupCounts = new HashMap<>();
+	private final Map<String, GroupSummary> groupSummaries = new HashMap<>();
+	private long totalStorage;
+	private long freeStorage;
+
+	/**
+	 * Adds or replaces the contribution of the given device
+	 *
+	 * @param device device extracted from the BSN.cloud response
+	 */
+	public void update(AggregatedDevice device) {
+		update(device, BrightSignBSNCloudConstant.EMPTY);
+	}
+
+	/**
+	 * Adds or replaces the contribution of the given device, summarized in a group whose id is prefixed by the key prefix of its network.
+	 * Devices without a group stay in the same {@link BrightSignBSNCloudConstant#NONE} group.
+	 *
+	 * @param device device extracted from the BSN.cloud response
+	 * @param groupKeyPrefix prefix of the group id, see {@link NetworkContext#createKey(String)}
+	 */
+	public synchronized void update(AggregatedDevice device, String groupKeyPrefix) {
+		DeviceContribution contribution = DeviceContribution.of(device);
+		if (!BrightSignBSNCloudConstant.NONE.equals(contribution.groupId)) {
+			contribution.groupId = groupKeyPrefix + contribution.groupId;
+		}
+		DeviceContribution previous = contributions.put(device.getDeviceId(), contribution);
+		if (previous != null) {
+			apply(previous, -1);
+		}
+		apply(contribution, 1);
+	}
+
+	/**
+	 * Removes the contribution of the given device
+	 *
+	 * @param deviceId id of the removed device
+	 */
+	public synchronized void remove(String deviceId) {
+		DeviceContribution previous = contributions.remove(deviceId);
+		if (previous != null) {
+			apply(previous, -1);
+		}
+	}
+
+	/**
+	 * Removes all device contributions
+	 */
+	public synchronized void clear() {
+		contributions.clear();
+		healthCounts.clear();
+		modelCounts.clear();
+		firmwareCounts.clear();
+		groupCounts.clear();
+		groupSummaries.clear();
+		totalStorage = 0;
+		freeStorage = 0;
+	}
+
+	/**
+	 * Retrieves number of devices currently counted
+	 *
+	 * @return number of devices
+	 */
+	public synchronized int getDeviceCount() {
+		return contributions.size();
+	}
+
+	/**
+	 * Retrieves device counts by health, every {@link StatusEnum} name is always present
+	 *
+	 * @return copy of the counters sorted by health name
+	 */
+	public synchronized Map<String, Integer> getHealthCounts() {
+		Map<String, Integer> result = new TreeMap<>();
+		for (StatusEnum status : StatusEnum.values()) {
+			result.put(status.getName(), 0);
+		}
+		result.putAll(healthCounts);
+		return result;
+	}
+
+	/**
+	 * Retrieves device counts by model
+	 *
+	 * @return copy of the counters sorted by model
+	 */
+	public synchronized Map<String, Integer> getModelCounts() {
+		return new TreeMap<>(modelCounts);
+	}
+
+	/**
+	 * Retrieves device counts by BrightSignOS version
+	 *
+	 * @return copy of the counters sorted by version
+	 */
+	public synchronized Map<String, Integer> getFirmwareCounts() {
+		return new TreeMap<>(firmwareCounts);
+	}
+
+	/**
+	 * Retrieves device counts by group name
+	 *
+	 * @return copy of the counters sorted by group name
+	 */
+	public synchronized Map<String, Integer> getGroupCounts() {
+		return new TreeMap<>(groupCounts);
+	}
+
+	/**
+	 * Retrieves per-group summaries
+	 *
+	 * @return copies of the group summaries sorted by group id
+	 */
+	public synchronized List<GroupSummary> getGroupSummaries() {
+		List<GroupSummary> result = new ArrayList<>();
+		new TreeMap<>(groupSummaries).values().forEach(item -> result.add(item.copy()));
+		return result;
+	}
+
+	/**
+	 * Retrieves total storage size of the fleet in bytes
+	 *
+	 * @return total storage size
+	 */
+	public synchronized long getTotalStorage() {
+		return totalStorage;
+	}
+
+	/**
+	 * Retrieves free storage size of the fleet in bytes
+	 *
+	 * @return free storage size
+	 */
+	public synchronized long getFreeStorage() {
+		return freeStorage;
+	}
+
+	/**
+	 * Adds or subtracts a device contribution from the counters
+	 *
+	 * @param contribution device contribution
+	 * @param delta 1 to add the contribution, -1 to subtract it
+	 */
+	private void apply(DeviceContribution contribution, int delta) {
+		increment(healthCounts, contribution.health, delta);
+		increment(modelCounts, contribution.model, delta);
+		increment(firmwareCounts, contribution.firmware, delta);
+		increment(groupCounts, contribution.groupName, delta);
+		totalStorage += delta * contribution.totalStorage;
+		freeStorage += delta * contribution.freeStorage;
+
+		GroupSummary summary = groupSummaries.computeIfAbsent(contribution.groupId, key -> new GroupSummary(contribution.groupId));
+		summary.groupName = contribution.groupName;
+		summary.deviceCount += delta;
+		increment(summary.healthCounts, contribution.health, delta);
+		increment(summary.firmwareCounts, contribution.firmware, delta);
+		if (contribution.totalStorage > 0) {
+			summary.freeStorageValues.compute(contribution.freeStorage, (k, value) -> {
+				int result = (value == null ? 0 : value) + delta;
+				return result <= 0 ? null : result;
+			});
+		}
+		if (summary.deviceCount <= 0) {
+			groupSummaries.remove(contribution.groupId);
+		}
+	}
+
+	/**
+	 * Changes the counter of the given key, dropping it once it reaches zero
+	 *
+	 * @param counters counters map
+	 * @param key counter key
+	 * @param delta value to add
+	 */
+	private static void increment(Map<String, Integer> counters, String key, int delta) {
+		counters.compute(key, (k, value) -> {
+			int result = (value == null ? 0 : value) + delta;
+			return result <= 0 ? null : result;
+		});
+	}
+
+	/**
+	 * GroupSummary represents the aggregated state of the devices that belong to one BSN group
+	 */
+	public static class GroupSummary {
+		private final String groupId;
+		private String groupName;
+		private int deviceCount;
+		private final Map<String, Integer> healthCounts = new HashMap<>();
+		private final Map<String, Integer> firmwareCounts = new HashMap<>();
+		private final TreeMap<Long, Integer> freeStorageValues = new TreeMap<>();
+
+		/**
+		 * Create an instance of GroupSummary
+		 *
+		 * @param groupId id of the group
+		 */
+		GroupSummary(String groupId) {
+			this.groupId = groupId;
+		}
+
+		/**
+		 * Retrieves {@link #groupId}
+		 *
+		 * @return value of {@link #groupId}
+		 */
+		public String getGroupId() {
+			return groupId;
+		}
+
+		/**
+		 * Retrieves {@link #groupName}
+		 *
+		 * @return value of {@link #groupName}
+		 */
+		public String getGroupName() {
+			return groupName;
+		}
+
+		/**
+		 * Retrieves {@link #deviceCount}
+		 *
+		 * @return value of {@link #deviceCount}
+		 */
+		public int getDeviceCount() {
+			return deviceCount;
+		}
+
+		/**
+		 * Retrieves device counts by health, every {@link StatusEnum} name is always present
+		 *
+		 * @return counters sorted by health name
+		 */
+		public Map<String, Integer> getHealthCounts() {
+			Map<String, Integer> result = new TreeMap<>();
+			for (StatusEnum status : StatusEnum.values()) {
+				result.put(status.getName(), 0);
+			}
+			result.putAll(healthCounts);
+			return result;
+		}
+
+		/**
+		 * Retrieves device counts by BrightSignOS version
+		 *
+		 * @return counters sorted by version
+		 */
+		public Map<String, Integer> getFirmwareCounts() {
+			return new TreeMap<>(firmwareCounts);
+		}
+
+		/**
+		 * Retrieves the minimum free storage reported by a device of the group
+		 *
+		 * @return minimum free storage in bytes, or null if no device reported storage
+		 */
+		public Long getMinimumFreeStorage() {
+			return freeStorageValues.isEmpty() ? null : freeStorageValues.firstKey();
+		}
+
+		/**
+		 * Creates a detached copy of the summary
+		 *
+		 * @return copy of the summary
+		 */
+		GroupSummary copy() {
+			GroupSummary copy = new GroupSummary(groupId);
+			copy.groupName = groupName;
+			copy.deviceCount = deviceCount;
+			copy.healthCounts.putAll(healthCounts);
+			copy.firmwareCounts.putAll(firmwareCounts);
+			copy.freeStorageValues.putAll(freeStorageValues);
+			return copy;
+		}
+	}
+
+	/**
+	 * Values a single device contributes to the fleet counters
+	 */
+	static class DeviceContribution {
+		String health;
+		String model;
+		String firmware;
+		String groupId;
+		String groupName;
+		long totalStorage;
+		long freeStorage;
+
+		/**
+		 * Extracts the contribution from the raw properties of a device
+		 *
+		 * @param device device extracted from the BSN.cloud response
+		 * @return device contribution
+		 */
+		static DeviceContribution of(AggregatedDevice device) {
+			Map<String, String> properties = device.getProperties() == null ? new HashMap<>() : device.getProperties();
+			DeviceContribution contribution = new DeviceContribution();
+			contribution.health = StatusEnum.getNameByValue(valueOrNone(properties.get(AggregatedInformation.DEVICE_STATUS.getName())));
+			contribution.model = valueOrNone(device.getDeviceModel());
+			contribution.firmware = valueOrNone(properties.get(AggregatedInformation.FIRMWARE_VERSION.getName()));
+			contribution.groupId = valueOrNone(properties.get(AggregatedInformation.ID.getName()));
+			contribution.groupName = valueOrNone(properties.get(AggregatedInformation.NAME.getName()));
+			String storage = properties.get(AggregatedInformation.STORAGE.getName());
+			if (StringUtils.isNotNullOrEmpty(storage)) {
+				try {
+					for (JsonNode node : objectMapper.readTree(storage)) {
+						String storageInterface = node.path(BrightSignBSNCloudConstant.INTERFACE).asText();
+						if ("Tmp".equalsIgnoreCase(storageInterface) || "Flash".equalsIgnoreCase(storageInterface)) {
+							continue;
+						}
+						JsonNode stats = node.path(BrightSignBSNCloudConstant.STATS);
+						contribution.totalStorage += stats.path("sizeTotal").asLong(0);
+						contribution.freeStorage += stats.path("sizeFree").asLong(0);
+					}
+				} catch (Exception e) {
+					// Storage is reported as zero when the value can't be parsed
+				}
+			}
+			return contribution;
+		}
+
+		/**
+		 * check value is null or empty
+		 *
+		 * @param value input value
+		 * @return value or {@link BrightSignBSNCloudConstant#NONE}
+		 */
+		private static String valueOrNone(String value) {
+			return StringUtils.isNotNullOrEmpty(value) && !"null".equalsIgnoreCase(value) ? value : BrightSignBSNCloudConstant.NONE;
+		}
+	}
+}
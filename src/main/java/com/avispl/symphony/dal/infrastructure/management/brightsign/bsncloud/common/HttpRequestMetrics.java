@@ -0,0 +1,240 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpConnectionMetrics;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+
+/**
+ * HttpRequestMetrics counts the requests sent through the pooled HTTP client, how many of them reused a kept-alive connection
+ * and the number of response bytes read. Response bytes are counted after the transparent gzip/deflate decoding of the client.
+ * The metered client keeps the HTTP context of the caller, so cookies and authentication state shared across requests are preserved.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class HttpRequestMetrics {
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong reusedConnections = new AtomicLong();
+	private final AtomicLong responseBytes = new AtomicLong();
+
+	/**
+	 * Wraps a pooled HTTP client so its requests are recorded into these metrics
+	 *
+	 * @param httpClient pooled HTTP client
+	 * @return metered HTTP client
+	 */
+	public CloseableHttpClient wrap(CloseableHttpClient httpClient) {
+		return httpClient instanceof MeteredHttpClient ? httpClient : new MeteredHttpClient(httpClient, this);
+	}
+
+	/**
+	 * Retrieves number of executed requests
+	 *
+	 * @return number of requests
+	 */
+	public long getRequests() {
+		return requests.get();
+	}
+
+	/**
+	 * Retrieves number of requests sent over a connection already used by a previous request
+	 *
+	 * @return number of requests that reused a connection
+	 */
+	public long getReusedConnections() {
+		return reusedConnections.get();
+	}
+
+	/**
+	 * Retrieves number of decoded response bytes read
+	 *
+	 * @return number of bytes
+	 */
+	public long getResponseBytes() {
+		return responseBytes.get();
+	}
+
+	/**
+	 * Retrieves share of the requests that reused a connection
+	 *
+	 * @return reuse rate in the [0, 1] range
+	 */
+	public double getConnectionReuseRate() {
+		long total = requests.get();
+		return total == 0 ? 0 : (double) reusedConnections.get() / total;
+	}
+
+	/**
+	 * HTTP client recording the connection reuse of each request and counting the bytes of its response.
+	 * Executed requests are registered with {@link RequestHedger} so a losing hedged attempt can be aborted.
+	 */
+	static class MeteredHttpClient extends CloseableHttpClient {
+		private final CloseableHttpClient delegate;
+		private final HttpRequestMetrics metrics;
+
+		/**
+		 * Create an instance of MeteredHttpClient
+		 *
+		 * @param delegate pooled HTTP client
+		 * @param metrics metrics to record the requests into
+		 */
+		MeteredHttpClient(CloseableHttpClient delegate, HttpRequestMetrics metrics) {
+			this.delegate = delegate;
+			this.metrics = metrics;
+		}
+
+		@Override
+		protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+			if (request instanceof HttpUriRequest) {
+				RequestHedger.track((HttpUriRequest) request);
+			}
+			HttpClientContext requestContext = HttpClientContext.adapt(new RequestContext(context == null ? new BasicHttpContext() : context));
+			CloseableHttpResponse response = delegate.execute(target, request, requestContext);
+			metrics.requests.incrementAndGet();
+			try {
+				HttpConnection connection = requestContext.getConnection();
+				HttpConnectionMetrics connectionMetrics = connection == null ? null : connection.getMetrics();
+				if (connectionMetrics != null && connectionMetrics.getRequestCount() > 1) {
+					metrics.reusedConnections.incrementAndGet();
+				}
+			} catch (RuntimeException e) {
+				// The connection was already released, the request is counted as not reused
+			}
+			HttpEntity entity = response.getEntity();
+			if (entity != null) {
+				response.setEntity(new MeteredEntity(entity, metrics));
+			}
+			return response;
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegate.close();
+		}
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public HttpParams getParams() {
+			return delegate.getParams();
+		}
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public ClientConnectionManager getConnectionManager() {
+			return delegate.getConnectionManager();
+		}
+	}
+
+	/**
+	 * Context of a single request: the attributes describing the request and its connection are kept per request,
+	 * every other attribute is read from and written to the context shared across requests
+	 */
+	static class RequestContext implements HttpContext {
+		private static final Set<String> REQUEST_ATTRIBUTES = new HashSet<>(Arrays.asList(HttpCoreContext.HTTP_CONNECTION, HttpCoreContext.HTTP_REQUEST,
+				HttpCoreContext.HTTP_RESPONSE, HttpCoreContext.HTTP_TARGET_HOST, HttpCoreContext.HTTP_REQ_SENT, HttpClientContext.HTTP_ROUTE,
+				HttpClientContext.REDIRECT_LOCATIONS));
+
+		private final HttpContext shared;
+		private final Map<String, Object> attributes = new HashMap<>();
+
+		/**
+		 * Create an instance of RequestContext
+		 *
+		 * @param shared context shared across requests
+		 */
+		RequestContext(HttpContext shared) {
+			this.shared = shared;
+		}
+
+		@Override
+		public Object getAttribute(String id) {
+			return REQUEST_ATTRIBUTES.contains(id) ? attributes.get(id) : shared.getAttribute(id);
+		}
+
+		@Override
+		public void setAttribute(String id, Object obj) {
+			if (REQUEST_ATTRIBUTES.contains(id)) {
+				attributes.put(id, obj);
+			} else {
+				shared.setAttribute(id, obj);
+			}
+		}
+
+		@Override
+		public Object removeAttribute(String id) {
+			return REQUEST_ATTRIBUTES.contains(id) ? attributes.remove(id) : shared.removeAttribute(id);
+		}
+	}
+
+	/**
+	 * Response entity counting the bytes read from its content
+	 */
+	static class MeteredEntity extends HttpEntityWrapper {
+		private final HttpRequestMetrics metrics;
+		private InputStream content;
+
+		/**
+		 * Create an instance of MeteredEntity
+		 *
+		 * @param entity received entity
+		 * @param metrics metrics to record the bytes into
+		 */
+		MeteredEntity(HttpEntity entity, HttpRequestMetrics metrics) {
+			super(entity);
+			this.metrics = metrics;
+		}
+
+		@Override
+		public InputStream getContent() throws IOException {
+			if (content == null || !isRepeatable()) {
+				content = new FilterInputStream(super.getContent()) {
+					@Override
+					public int read() throws IOException {
+						int result = super.read();
+						if (result >= 0) {
+							metrics.responseBytes.incrementAndGet();
+						}
+						return result;
+					}
+
+					@Override
+					public int read(byte[] buffer, int offset, int length) throws IOException {
+						int result = super.read(buffer, offset, length);
+						if (result > 0) {
+							metrics.responseBytes.addAndGet(result);
+						}
+						return result;
+					}
+				};
+			}
+			return content;
+		}
+	}
+}
@@ -4,69 +4,54 @@
 
 package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
 
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * LoginInfo class represents information about a login session.
+ * The token of the session is held as an immutable {@link TokenState} swapped as a whole, since the login info is shared
+ * by the communicator instances of the JVM through {@link TokenRegistry}.
  *
  * @author Harry / Symphony Dev Team<br>
  * Created on 6/18/2024
  * @since 1.0.0
  */
 public class LoginInfo {
-	private long loginDateTime = 0;
-	private String token;
-
-	/**
-	 * Create an instance of LoginInfo
-	 */
-	public LoginInfo() {
-		this.loginDateTime = 0;
-	}
+	private final AtomicReference<TokenState> state = new AtomicReference<>(TokenState.EMPTY);
 
 	/**
-	 * Retrieves {@code {@link #loginDateTime}}
+	 * Retrieves {@link #state}
 	 *
-	 * @return value of {@link #loginDateTime}
+	 * @return current token state, {@link TokenState#EMPTY} before the first login
 	 */
-	public long getLoginDateTime() {
-		return loginDateTime;
+	public TokenState getState() {
+		return state.get();
 	}
 
 	/**
-	 * Sets {@code loginDateTime}
+	 * Publishes a new token state
 	 *
-	 * @param loginDateTime the {@code long} field
+	 * @param state new token state
 	 */
-	public void setLoginDateTime(long loginDateTime) {
-		this.loginDateTime = loginDateTime;
+	public void setState(TokenState state) {
+		this.state.set(state);
 	}
 
 	/**
-	 * Retrieves {@code {@link #token}}
+	 * Drops the access token, unless another token was published since it was read
 	 *
-	 * @return value of {@link #token}
+	 * @param token access token to drop
 	 */
-	public String getToken() {
-		return token;
+	public void clearToken(String token) {
+		state.updateAndGet(current -> Objects.equals(current.getToken(), token) ? current.withoutToken() : current);
 	}
 
 	/**
-	 * Sets {@code token}
-	 *
-	 * @param token the {@code java.lang.String} field
-	 */
-	public void setToken(String token) {
-		this.token = token;
-	}
-
-
-	/**
-	 * Check token expiry time
-	 * Token is timeout when elapsed > 10min
+	 * Drops the refresh token, unless another refresh token was published since it was read
 	 *
-	 * @return boolean
+	 * @param refreshToken refresh token to drop
 	 */
-	public boolean isTimeout() {
-		long elapsed = (System.currentTimeMillis() - loginDateTime) / 60000;
-		return elapsed > 10;
+	public void clearRefreshToken(String refreshToken) {
+		state.updateAndGet(current -> Objects.equals(current.getRefreshToken(), refreshToken) ? current.withoutRefreshToken() : current);
 	}
 }
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+
+/**
+ * ModelMappingCache keeps a single parsed and compiled model mapping per JVM, so communicator instances
+ * loading the same mapping resource share one read-only {@link AggregatedDeviceProcessor}.
+ * Entries are keyed by resource path: a mapping resource is read and parsed once, when it is first used.
+ * The resource ships inside the adapter jar, so its content does not change while the class loader holding this cache is alive.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class ModelMappingCache {
+	private static final Map<String, AggregatedDeviceProcessor> processors = new ConcurrentHashMap<>();
+
+	private ModelMappingCache() {
+	}
+
+	/**
+	 * Retrieves the shared {@link AggregatedDeviceProcessor} for the given mapping resource, parsing it on first use.
+	 *
+	 * @param resource path of the YML mapping resource
+	 * @param clazz class whose class loader is used to resolve the resource
+	 * @return shared processor instance for the resource
+	 * @throws IOException if the resource cannot be read or parsed
+	 */
+	public static AggregatedDeviceProcessor getProcessor(String resource, Class<?> clazz) throws IOException {
+		AggregatedDeviceProcessor processor = processors.get(resource);
+		if (processor != null) {
+			return processor;
+		}
+		synchronized (processors) {
+			processor = processors.get(resource);
+			if (processor == null) {
+				Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(resource, clazz);
+				processor = new AggregatedDeviceProcessor(mapping);
+				processors.put(resource, processor);
+			}
+			return processor;
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * NetworkContext holds the state of one monitored BSN network: its login, the cursor of the device list walk,
+ * the devices received during that walk and the groups of the network. Requests are sent in the context of a network so they use its token.
+ * Device and group ids are only unique within a network, so the devices of several monitored networks are cached and published
+ * under keys prefixed by their network, see {@link #createKey(String)}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class NetworkContext {
+	private final String name;
+	private final String username;
+	private final String tokenRegistryKey;
+	private final LoginInfo loginInfo;
+	private final String keyPrefix;
+	private final Set<String> walkDeviceIds = ConcurrentHashMap.newKeySet();
+	private volatile String nextMarker;
+	private volatile boolean walkFromFirstPage;
+	private volatile int deviceCount;
+	private volatile Map<String, String> groups = Collections.emptyMap();
+	private volatile long groupsTimestamp;
+	private ScheduledFuture<?> tokenRefreshFuture;
+
+	/**
+	 * Create an instance of NetworkContext
+	 *
+	 * @param name name of the network, empty if unknown
+	 * @param username user name prefixed by the network name, null if the credentials are missing or malformed
+	 * @param tokenRegistryKey key of the login info in {@link TokenRegistry}, null if the login info is not registered
+	 * @param loginInfo login info of the network
+	 * @param qualified whether the keys of the devices and groups of the network are prefixed by its name, required when several networks are monitored
+	 */
+	public NetworkContext(String name, String username, String tokenRegistryKey, LoginInfo loginInfo, boolean qualified) {
+		this.name = name == null ? BrightSignBSNCloudConstant.EMPTY : name;
+		this.username = username;
+		this.tokenRegistryKey = tokenRegistryKey;
+		this.loginInfo = loginInfo;
+		this.keyPrefix = qualified ? this.name + "/" : BrightSignBSNCloudConstant.EMPTY;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #username}
+	 *
+	 * @return value of {@link #username}
+	 */
+	public String getUsername() {
+		return username;
+	}
+
+	/**
+	 * Retrieves {@link #tokenRegistryKey}
+	 *
+	 * @return value of {@link #tokenRegistryKey}
+	 */
+	public String getTokenRegistryKey() {
+		return tokenRegistryKey;
+	}
+
+	/**
+	 * Retrieves {@link #loginInfo}
+	 *
+	 * @return value of {@link #loginInfo}
+	 */
+	public LoginInfo getLoginInfo() {
+		return loginInfo;
+	}
+
+	/**
+	 * Retrieves {@link #keyPrefix}
+	 *
+	 * @return value of {@link #keyPrefix}, empty when the keys are the BSN.cloud ids
+	 */
+	public String getKeyPrefix() {
+		return keyPrefix;
+	}
+
+	/**
+	 * Creates the key a device or group of the network is cached and published under
+	 *
+	 * @param id BSN.cloud id of the device or group
+	 * @return id prefixed by {@link #keyPrefix}
+	 */
+	public String createKey(String id) {
+		return keyPrefix + id;
+	}
+
+	/**
+	 * Checks whether a key was created by {@link #createKey(String)} of the network
+	 *
+	 * @param key key of a device or group
+	 * @return true if the key starts with {@link #keyPrefix}
+	 */
+	public boolean ownsKey(String key) {
+		return key != null && key.startsWith(keyPrefix);
+	}
+
+	/**
+	 * Retrieves the BSN.cloud id a key of the network was created from
+	 *
+	 * @param key key created by {@link #createKey(String)}
+	 * @return key without {@link #keyPrefix}
+	 */
+	public String getId(String key) {
+		return ownsKey(key) ? key.substring(keyPrefix.length()) : key;
+	}
+
+	/**
+	 * Retrieves {@link #walkDeviceIds}
+	 *
+	 * @return value of {@link #walkDeviceIds}, the keys of the devices received since the walk started from the first page
+	 */
+	public Set<String> getWalkDeviceIds() {
+		return walkDeviceIds;
+	}
+
+	/**
+	 * Retrieves {@link #nextMarker}
+	 *
+	 * @return value of {@link #nextMarker}
+	 */
+	public String getNextMarker() {
+		return nextMarker;
+	}
+
+	/**
+	 * Sets {@link #nextMarker} value
+	 *
+	 * @param nextMarker new value of {@link #nextMarker}
+	 */
+	public void setNextMarker(String nextMarker) {
+		this.nextMarker = nextMarker;
+	}
+
+	/**
+	 * Retrieves {@link #walkFromFirstPage}
+	 *
+	 * @return value of {@link #walkFromFirstPage}
+	 */
+	public boolean isWalkFromFirstPage() {
+		return walkFromFirstPage;
+	}
+
+	/**
+	 * Sets {@link #walkFromFirstPage} value
+	 *
+	 * @param walkFromFirstPage new value of {@link #walkFromFirstPage}
+	 */
+	public void setWalkFromFirstPage(boolean walkFromFirstPage) {
+		this.walkFromFirstPage = walkFromFirstPage;
+	}
+
+	/**
+	 * Retrieves {@link #deviceCount}
+	 *
+	 * @return value of {@link #deviceCount}
+	 */
+	public int getDeviceCount() {
+		return deviceCount;
+	}
+
+	/**
+	 * Sets {@link #deviceCount} value
+	 *
+	 * @param deviceCount new value of {@link #deviceCount}
+	 */
+	public void setDeviceCount(int deviceCount) {
+		this.deviceCount = deviceCount;
+	}
+
+	/**
+	 * Retrieves {@link #tokenRefreshFuture}
+	 *
+	 * @return value of {@link #tokenRefreshFuture}
+	 */
+	public ScheduledFuture<?> getTokenRefreshFuture() {
+		return tokenRefreshFuture;
+	}
+
+	/**
+	 * Sets {@link #tokenRefreshFuture} value
+	 *
+	 * @param tokenRefreshFuture new value of {@link #tokenRefreshFuture}
+	 */
+	public void setTokenRefreshFuture(ScheduledFuture<?> tokenRefreshFuture) {
+		this.tokenRefreshFuture = tokenRefreshFuture;
+	}
+
+	/**
+	 * Retrieves {@link #groups}
+	 *
+	 * @return value of {@link #groups}, the names of the groups of the network keyed by group id
+	 */
+	public Map<String, String> getGroups() {
+		return groups;
+	}
+
+	/**
+	 * Sets {@link #groups} value and the time they were retrieved at
+	 *
+	 * @param groups new value of {@link #groups}
+	 * @param groupsTimestamp time the groups were retrieved at
+	 */
+	public void setGroups(Map<String, String> groups, long groupsTimestamp) {
+		this.groups = Collections.unmodifiableMap(groups);
+		this.groupsTimestamp = groupsTimestamp;
+	}
+
+	/**
+	 * Retrieves {@link #groupsTimestamp}
+	 *
+	 * @return value of {@link #groupsTimestamp}, 0 if the groups were never retrieved
+	 */
+	public long getGroupsTimestamp() {
+		return groupsTimestamp;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * RefreshingSnapshot serves a value that is loaded once and then refreshed in the background, so readers never wait for a refresh.
+ * After a failed refresh the last loaded value keeps being served, with its failure available from {@link #getError()} and its age
+ * from {@link #getTimestamp()}. Every reader served during the failure queues a new refresh, so the snapshot recovers once the source
+ * is reachable again.
+ *
+ * @param <T> type of the value
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class RefreshingSnapshot<T> {
+	private final Callable<T> loader;
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+	private volatile T value;
+	private volatile Exception error;
+	private volatile long timestamp;
+
+	/**
+	 * Create an instance of RefreshingSnapshot
+	 *
+	 * @param loader loads a new value, it may read the current value through {@link #getValue()}
+	 */
+	public RefreshingSnapshot(Callable<T> loader) {
+		this.loader = loader;
+	}
+
+	/**
+	 * Retrieves the current value, loading it on the calling thread when there is none yet
+	 *
+	 * @param executor executor running the background refreshes, null to skip them
+	 * @param stale whether the current value should be refreshed in the background
+	 * @return current value, the last loaded one while refreshes fail
+	 * @throws Exception thrown by the first load, until a load succeeds
+	 */
+	public T get(Executor executor, boolean stale) throws Exception {
+		T current = value;
+		if (current == null) {
+			return refresh();
+		}
+		if (stale || error != null) {
+			scheduleRefresh(executor);
+		}
+		return current;
+	}
+
+	/**
+	 * Loads a new value on the calling thread
+	 *
+	 * @return loaded value
+	 * @throws Exception thrown by the loader, kept as {@link #error} until a refresh succeeds
+	 */
+	public T refresh() throws Exception {
+		try {
+			T loaded = loader.call();
+			value = loaded;
+			timestamp = System.currentTimeMillis();
+			error = null;
+			return loaded;
+		} catch (Exception e) {
+			error = e;
+			throw e;
+		}
+	}
+
+	/**
+	 * Queues a background refresh, unless one is already queued or running
+	 *
+	 * @param executor executor running the refresh, null to skip it
+	 */
+	public void scheduleRefresh(Executor executor) {
+		if (executor == null || !refreshing.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					refresh();
+				} catch (Exception e) {
+					// kept as the error of the snapshot, the last loaded value is served meanwhile
+				} finally {
+					refreshing.set(false);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			refreshing.set(false);
+		}
+	}
+
+	/**
+	 * Retrieves {@link #value}
+	 *
+	 * @return value of {@link #value}, null until loaded
+	 */
+	public T getValue() {
+		return value;
+	}
+
+	/**
+	 * Retrieves {@link #error}
+	 *
+	 * @return value of {@link #error}, null once a refresh succeeds
+	 */
+	public Exception getError() {
+		return error;
+	}
+
+	/**
+	 * Retrieves {@link #timestamp}
+	 *
+	 * @return time {@link #value} was loaded, 0 until loaded
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Drops the value and the error
+	 */
+	public void clear() {
+		value = null;
+		error = null;
+		timestamp = 0;
+		refreshing.set(false);
+	}
+}
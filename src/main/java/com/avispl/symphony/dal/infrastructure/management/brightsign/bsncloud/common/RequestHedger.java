@@ -0,0 +1,302 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * RequestHedger cuts the tail latency of idempotent requests.
+ * When a request has not completed within a percentile of the recent latencies of its endpoint, a duplicate request is sent,
+ * the first successful response wins and the other request is aborted.
+ * Duplicates are limited by a budget: every request earns a fraction of a hedge, and a hedge is only sent when a whole one was earned.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class RequestHedger {
+	private static final int SAMPLE_SIZE = 200;
+	private static final int MIN_SAMPLES = 20;
+	private static final double MAX_BUDGET_TOKENS = 10;
+	private static final ThreadLocal<Attempt<?>> currentAttempt = new ThreadLocal<>();
+
+	private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+	private double budgetTokens;
+	private long hedgedRequests;
+	private long hedgeWins;
+
+	/**
+	 * Registers an HTTP request created for the attempt running on the current thread, so it can be aborted once the attempt loses
+	 *
+	 * @param request created HTTP request
+	 */
+	public static void track(HttpUriRequest request) {
+		Attempt<?> attempt = currentAttempt.get();
+		if (attempt != null) {
+			attempt.track(request);
+		}
+	}
+
+	/**
+	 * Executes a request, sending a duplicate one when it is slower than the given percentile of the endpoint latencies
+	 *
+	 * @param executor executor running the attempts, null to execute the request on the calling thread without hedging
+	 * @param endpoint endpoint the latencies are tracked for
+	 * @param request idempotent request to execute
+	 * @param percentile latency percentile after which the duplicate is sent, in the (0, 100] range
+	 * @param budget maximum share of requests that may be duplicated, in percent
+	 * @param permit checked right before sending a duplicate, false skips the duplicate
+	 * @param <T> type of the response
+	 * @return response of the first successful attempt
+	 * @throws Exception thrown by the request when every attempt failed
+	 */
+	public <T> T execute(ExecutorService executor, String endpoint, Callable<T> request, double percentile, double budget, BooleanSupplier permit) throws Exception {
+		LatencyWindow window = latencies.computeIfAbsent(endpoint, key -> new LatencyWindow());
+		long delay = window.getPercentile(percentile);
+		earnBudget(budget);
+		if (executor == null || delay < 0) {
+			return new Attempt<>(request, window).call();
+		}
+		ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor);
+		Attempt<T> primary = new Attempt<>(request, window);
+		Future<T> primaryFuture = completion.submit(primary);
+		Attempt<T> hedge = null;
+		Future<T> hedgeFuture = null;
+		try {
+			Future<T> done = completion.poll(delay, TimeUnit.MILLISECONDS);
+			if (done == null && spendBudget(permit)) {
+				hedge = new Attempt<>(request, window);
+				hedgeFuture = completion.submit(hedge);
+			}
+			if (done == null) {
+				done = completion.take();
+			}
+			if (hedgeFuture == null) {
+				return getResult(done);
+			}
+			try {
+				return getWinner(done, hedgeFuture);
+			} catch (Exception e) {
+				Future<T> other = completion.take();
+				try {
+					return getWinner(other, hedgeFuture);
+				} catch (Exception ignored) {
+					throw e;
+				}
+			}
+		} finally {
+			primary.cancel();
+			primaryFuture.cancel(true);
+			if (hedge != null) {
+				hedge.cancel();
+				hedgeFuture.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves {@link #hedgedRequests}
+	 *
+	 * @return value of {@link #hedgedRequests}
+	 */
+	public synchronized long getHedgedRequests() {
+		return hedgedRequests;
+	}
+
+	/**
+	 * Retrieves {@link #hedgeWins}
+	 *
+	 * @return value of {@link #hedgeWins}, the number of duplicates that responded before the original request
+	 */
+	public synchronized long getHedgeWins() {
+		return hedgeWins;
+	}
+
+	/**
+	 * Clears the observed latencies and the earned budget
+	 */
+	public synchronized void reset() {
+		latencies.clear();
+		budgetTokens = 0;
+	}
+
+	/**
+	 * Adds the share of a hedge earned by one request to {@link #budgetTokens}
+	 *
+	 * @param budget maximum share of requests that may be duplicated, in percent
+	 */
+	private synchronized void earnBudget(double budget) {
+		budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + Math.max(0, budget) / 100);
+	}
+
+	/**
+	 * Spends one hedge from {@link #budgetTokens} when available and permitted
+	 *
+	 * @param permit checked once the budget allows the hedge
+	 * @return true if the duplicate may be sent
+	 */
+	private synchronized boolean spendBudget(BooleanSupplier permit) {
+		if (budgetTokens < 1 || !permit.getAsBoolean()) {
+			return false;
+		}
+		budgetTokens--;
+		hedgedRequests++;
+		return true;
+	}
+
+	/**
+	 * Retrieves the result of a completed attempt, counting a win when it is the duplicate
+	 *
+	 * @param done completed attempt
+	 * @param hedgeFuture duplicate attempt
+	 * @param <T> type of the response
+	 * @return response of the attempt
+	 * @throws Exception thrown by the attempt
+	 */
+	private <T> T getWinner(Future<T> done, Future<T> hedgeFuture) throws Exception {
+		T result = getResult(done);
+		if (done == hedgeFuture) {
+			synchronized (this) {
+				hedgeWins++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Retrieves the result of a completed attempt, unwrapping the exception it threw
+	 *
+	 * @param done completed attempt
+	 * @param <T> type of the response
+	 * @return response of the attempt
+	 * @throws Exception thrown by the attempt
+	 */
+	private static <T> T getResult(Future<T> done) throws Exception {
+		try {
+			return done.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * One attempt of a request, recording its latency on success and aborting its HTTP requests once cancelled
+	 *
+	 * @param <T> type of the response
+	 */
+	private static class Attempt<T> implements Callable<T> {
+		private final Callable<T> request;
+		private final LatencyWindow window;
+		private final List<HttpUriRequest> httpRequests = new CopyOnWriteArrayList<>();
+		private volatile boolean cancelled;
+
+		/**
+		 * Create an instance of Attempt
+		 *
+		 * @param request request to execute
+		 * @param window latencies of the endpoint
+		 */
+		Attempt(Callable<T> request, LatencyWindow window) {
+			this.request = request;
+			this.window = window;
+		}
+
+		@Override
+		public T call() throws Exception {
+			Attempt<?> previous = currentAttempt.get();
+			currentAttempt.set(this);
+			long start = System.nanoTime();
+			try {
+				T result = request.call();
+				window.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+				return result;
+			} finally {
+				if (previous == null) {
+					currentAttempt.remove();
+				} else {
+					currentAttempt.set(previous);
+				}
+			}
+		}
+
+		/**
+		 * Registers an HTTP request of the attempt, aborting it right away when the attempt was already cancelled
+		 *
+		 * @param httpRequest created HTTP request
+		 */
+		void track(HttpUriRequest httpRequest) {
+			httpRequests.add(httpRequest);
+			if (cancelled) {
+				httpRequest.abort();
+			}
+		}
+
+		/**
+		 * Aborts the HTTP requests of the attempt
+		 */
+		void cancel() {
+			cancelled = true;
+			for (HttpUriRequest httpRequest : httpRequests) {
+				httpRequest.abort();
+			}
+		}
+	}
+
+	/**
+	 * Sliding window of the most recent latencies of an endpoint
+	 */
+	private static class LatencyWindow {
+		private final long[] samples = new long[SAMPLE_SIZE];
+		private int count;
+		private int next;
+
+		/**
+		 * Adds a latency to the window, replacing the oldest one once full
+		 *
+		 * @param latency latency in milliseconds
+		 */
+		synchronized void add(long latency) {
+			samples[next] = latency;
+			next = (next + 1) % SAMPLE_SIZE;
+			count = Math.min(SAMPLE_SIZE, count + 1);
+		}
+
+		/**
+		 * Retrieves a percentile of the latencies in the window
+		 *
+		 * @param percentile percentile in the (0, 100] range
+		 * @return latency in milliseconds, -1 until enough latencies were observed
+		 */
+		synchronized long getPercentile(double percentile) {
+			if (count < MIN_SAMPLES) {
+				return -1;
+			}
+			long[] sorted = Arrays.copyOf(samples, count);
+			Arrays.sort(sorted);
+			int index = (int) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count) - 1;
+			return sorted[Math.max(0, Math.min(count - 1, index))];
+		}
+	}
+}
@@ -0,0 +1,16 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+/**
+ * Priority classes of the outgoing BSN.cloud requests, ordered from the most to the least urgent.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public enum RequestPriority {
+	CONTROL, AUTHENTICATION, POLLING
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RingBuffer keeps the last {@code capacity} added items, overwriting the oldest one when full.
+ * The buffer is not thread safe, callers are expected to synchronize access.
+ *
+ * @param <T> type of the buffered items
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class RingBuffer<T> {
+	private final Object[] items;
+	private int next;
+	private int size;
+
+	/**
+	 * Create an instance of RingBuffer
+	 *
+	 * @param capacity maximum number of kept items
+	 */
+	public RingBuffer(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("RingBuffer capacity must be positive");
+		}
+		this.items = new Object[capacity];
+	}
+
+	/**
+	 * Adds an item, overwriting the oldest one when the buffer is full
+	 *
+	 * @param item item to add
+	 */
+	public void add(T item) {
+		items[next] = item;
+		next = (next + 1) % items.length;
+		if (size < items.length) {
+			size++;
+		}
+	}
+
+	/**
+	 * Retrieves the most recently added item
+	 *
+	 * @return the latest item or null if the buffer is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public T getLatest() {
+		if (size == 0) {
+			return null;
+		}
+		return (T) items[(next - 1 + items.length) % items.length];
+	}
+
+	/**
+	 * Retrieves the buffered items from the oldest to the latest
+	 *
+	 * @return list of the buffered items
+	 */
+	@SuppressWarnings("unchecked")
+	public List<T> toList() {
+		List<T> result = new ArrayList<>(size);
+		int start = (next - size + items.length) % items.length;
+		for (int i = 0; i < size; i++) {
+			result.add((T) items[(start + i) % items.length]);
+		}
+		return result;
+	}
+
+	/**
+	 * Removes all buffered items
+	 */
+	public void clear() {
+		Arrays.fill(items, null);
+		next = 0;
+		size = 0;
+	}
+
+	/**
+	 * Retrieves number of buffered items
+	 *
+	 * @return number of items
+	 */
+	public int size() {
+		return size;
+	}
+}
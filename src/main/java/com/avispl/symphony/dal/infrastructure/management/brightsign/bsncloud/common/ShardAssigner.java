@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ShardAssigner maps players or groups to aggregator shards with a jump consistent hash of their key.
+ * The assignment only depends on the key and the shard count, so every instance agrees on it without coordination,
+ * and growing the shard count from n to n + 1 only moves 1 / (n + 1) of the keys, all of them to the new shard.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class ShardAssigner {
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private ShardAssigner() {
+	}
+
+	/**
+	 * Checks whether a key belongs to a shard
+	 *
+	 * @param key player serial or group id
+	 * @param shardIndex index of the shard, in the [0, shardCount) range
+	 * @param shardCount number of shards, 1 or less disables sharding
+	 * @return true if the shard owns the key
+	 */
+	public static boolean owns(String key, int shardIndex, int shardCount) {
+		return shardCount <= 1 || getShard(key, shardCount) == shardIndex;
+	}
+
+	/**
+	 * Retrieves the shard a key belongs to
+	 *
+	 * @param key player serial or group id
+	 * @param shardCount number of shards
+	 * @return index of the shard, in the [0, shardCount) range
+	 */
+	public static int getShard(String key, int shardCount) {
+		return jumpConsistentHash(hash(key == null ? BrightSignBSNCloudConstant.EMPTY : key), Math.max(1, shardCount));
+	}
+
+	/**
+	 * Jump consistent hash of Lamping and Veach
+	 *
+	 * @param key 64-bit key
+	 * @param buckets number of buckets
+	 * @return bucket of the key, in the [0, buckets) range
+	 */
+	static int jumpConsistentHash(long key, int buckets) {
+		long bucket = -1;
+		long next = 0;
+		while (next < buckets) {
+			bucket = next;
+			key = key * 2862933555777941757L + 1;
+			next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+		}
+		return (int) bucket;
+	}
+
+	/**
+	 * 64-bit FNV-1a hash of the UTF-8 bytes of a value
+	 *
+	 * @param value value to hash
+	 * @return hash of the value
+	 */
+	static long hash(String value) {
+		long hash = FNV_OFFSET_BASIS;
+		for (byte item : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= item & 0xff;
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.Arrays;
+
+/**
+ * Shard mode - the key the fleet is split on between the sharded aggregator instances
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public enum ShardMode {
+	PLAYER("Player"), GROUP("Group");
+
+	private final String name;
+
+	/**
+	 * Constructor for ShardMode.
+	 *
+	 * @param name the display name of the mode
+	 */
+	ShardMode(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieve {@link ShardMode} instance based on the text value of the mode
+	 *
+	 * @param mode name of the mode to retrieve
+	 * @return instance of {@link ShardMode}, {@link #PLAYER} if the name is unknown
+	 */
+	public static ShardMode ofString(String mode) {
+		return Arrays.stream(values())
+				.filter(shardMode -> shardMode.name.equalsIgnoreCase(mode))
+				.findFirst()
+				.orElse(PLAYER);
+	}
+}
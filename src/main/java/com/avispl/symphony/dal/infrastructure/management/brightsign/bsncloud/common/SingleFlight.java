@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SingleFlight coalesces concurrent calls with the same key: the first caller executes the call,
+ * callers arriving while it is in flight wait for it and receive the same result or exception.
+ * Nothing is cached once the call completes.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class SingleFlight {
+	private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private final AtomicLong coalescedCalls = new AtomicLong();
+
+	/**
+	 * Executes the call, or joins the identical call already in flight
+	 *
+	 * @param key key identifying identical calls
+	 * @param call call to execute
+	 * @param <T> type of the result
+	 * @return result of the call
+	 * @throws Exception thrown by the call
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(String key, Callable<T> call) throws Exception {
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+		if (existing != null) {
+			coalescedCalls.incrementAndGet();
+			try {
+				return (T) existing.get();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof Exception) {
+					throw (Exception) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw e;
+			}
+		}
+		try {
+			T result = call.call();
+			future.complete(result);
+			return result;
+		} catch (Exception | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+	/**
+	 * Retrieves number of calls that joined a call already in flight
+	 *
+	 * @return number of coalesced calls
+	 */
+	public long getCoalescedCalls() {
+		return coalescedCalls.get();
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * TokenRegistry shares one {@link LoginInfo} per BSN.cloud account across all communicator instances of the JVM,
+ * so instances using the same credentials log in once and refresh the token once.
+ * Entries are keyed by client id, user and network together with a hash of the secrets, so different credentials never share a token.
+ * An entry is dropped once the last instance using it releases it.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class TokenRegistry {
+	private static final Map<String, Entry> entries = new HashMap<>();
+	private static final SingleFlight refreshes = new SingleFlight();
+
+	private TokenRegistry() {
+	}
+
+	/**
+	 * Creates the registry key of an account
+	 *
+	 * @param clientId client id of the application
+	 * @param username user name, prefixed by the network name
+	 * @param password password of the user
+	 * @param clientSecret client secret of the application
+	 * @return registry key
+	 */
+	public static String createKey(String clientId, String username, String password, String clientSecret) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest((password + BrightSignBSNCloudConstant.SPACE + clientSecret).getBytes(StandardCharsets.UTF_8));
+			StringBuilder hash = new StringBuilder();
+			for (byte item : digest) {
+				hash.append(String.format("%02x", item));
+			}
+			return clientId + BrightSignBSNCloudConstant.HASH + username + BrightSignBSNCloudConstant.HASH + hash;
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("Unable to hash credentials", e);
+		}
+	}
+
+	/**
+	 * Retrieves the shared login info of an account and registers one more user of it
+	 *
+	 * @param key registry key of the account
+	 * @return shared login info
+	 */
+	public static synchronized LoginInfo acquire(String key) {
+		Entry entry = entries.computeIfAbsent(key, item -> new Entry());
+		entry.references++;
+		return entry.loginInfo;
+	}
+
+	/**
+	 * Unregisters one user of an account, dropping the shared login info once it is no longer used
+	 *
+	 * @param key registry key of the account
+	 */
+	public static synchronized void release(String key) {
+		Entry entry = entries.get(key);
+		if (entry != null && --entry.references <= 0) {
+			entries.remove(key);
+		}
+	}
+
+	/**
+	 * Executes a token refresh of an account, concurrent refreshes of the same account from any instance share one request
+	 *
+	 * @param key registry key of the account
+	 * @param refresh refresh to execute
+	 * @throws Exception thrown by the refresh
+	 */
+	public static void refresh(String key, Callable<Void> refresh) throws Exception {
+		refreshes.execute(key, refresh);
+	}
+
+	/**
+	 * Shared login info and number of instances using it
+	 */
+	private static class Entry {
+		private final LoginInfo loginInfo = new LoginInfo();
+		private int references;
+	}
+}
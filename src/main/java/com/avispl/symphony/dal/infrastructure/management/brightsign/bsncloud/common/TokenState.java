@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+/**
+ * TokenState is an immutable snapshot of an authorization token: the access token, the refresh token, the login time and the lifetime.
+ * A new state is published by {@link LoginInfo} as a whole, so readers never see the token of one login with the lifetime of another.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public final class TokenState {
+	/**
+	 * State before the first login
+	 */
+	public static final TokenState EMPTY = new TokenState(null, null, 0, 0);
+
+	private static final long DEFAULT_LIFETIME = 10 * 60 * 1000L;
+
+	private final String token;
+	private final String refreshToken;
+	private final long loginDateTime;
+	private final long expiresIn;
+
+	/**
+	 * Create an instance of TokenState
+	 *
+	 * @param token access token, null if there is none
+	 * @param refreshToken refresh token, null if there is none
+	 * @param loginDateTime time the token was retrieved at in milliseconds
+	 * @param expiresIn lifetime of the token in milliseconds, 0 if it was not reported
+	 */
+	public TokenState(String token, String refreshToken, long loginDateTime, long expiresIn) {
+		this.token = token;
+		this.refreshToken = refreshToken;
+		this.loginDateTime = loginDateTime;
+		this.expiresIn = expiresIn;
+	}
+
+	/**
+	 * Retrieves {@link #token}
+	 *
+	 * @return value of {@link #token}
+	 */
+	public String getToken() {
+		return token;
+	}
+
+	/**
+	 * Retrieves {@link #refreshToken}
+	 *
+	 * @return value of {@link #refreshToken}
+	 */
+	public String getRefreshToken() {
+		return refreshToken;
+	}
+
+	/**
+	 * Retrieves {@link #loginDateTime}
+	 *
+	 * @return value of {@link #loginDateTime}
+	 */
+	public long getLoginDateTime() {
+		return loginDateTime;
+	}
+
+	/**
+	 * Retrieves {@link #expiresIn}
+	 *
+	 * @return value of {@link #expiresIn}
+	 */
+	public long getExpiresIn() {
+		return expiresIn;
+	}
+
+	/**
+	 * Creates a copy of the state without the access token
+	 *
+	 * @return state without the access token
+	 */
+	public TokenState withoutToken() {
+		return new TokenState(null, refreshToken, loginDateTime, expiresIn);
+	}
+
+	/**
+	 * Creates a copy of the state without the refresh token
+	 *
+	 * @return state without the refresh token
+	 */
+	public TokenState withoutRefreshToken() {
+		return new TokenState(token, null, loginDateTime, expiresIn);
+	}
+
+	/**
+	 * Retrieves time the token expires at
+	 * The lifetime reported by the token endpoint is used, or 10min when it was not reported
+	 *
+	 * @return expiry time in milliseconds
+	 */
+	public long getExpiryDateTime() {
+		return loginDateTime + getLifetime();
+	}
+
+	/**
+	 * Check token expiry time
+	 *
+	 * @return boolean
+	 */
+	public boolean isTimeout() {
+		return System.currentTimeMillis() >= getExpiryDateTime();
+	}
+
+	/**
+	 * Check whether the token should be refreshed ahead of its expiry
+	 * Refresh is due once the remaining lifetime drops below the given margin or a fifth of the lifetime, whichever is larger
+	 *
+	 * @param refreshAhead minimum remaining lifetime in milliseconds
+	 * @return boolean
+	 */
+	public boolean isRefreshDue(long refreshAhead) {
+		return System.currentTimeMillis() >= getRefreshDateTime(refreshAhead);
+	}
+
+	/**
+	 * Retrieves time the token should be refreshed at
+	 *
+	 * @param refreshAhead minimum remaining lifetime in milliseconds
+	 * @return refresh time in milliseconds
+	 */
+	public long getRefreshDateTime(long refreshAhead) {
+		long lifetime = getLifetime();
+		return getExpiryDateTime() - Math.min(lifetime / 2, Math.max(refreshAhead, lifetime / 5));
+	}
+
+	/**
+	 * Retrieves the lifetime of the token
+	 *
+	 * @return {@link #expiresIn}, or 10min when it was not reported
+	 */
+	private long getLifetime() {
+		return expiresIn > 0 ? expiresIn : DEFAULT_LIFETIME;
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.metric.StatusEnum;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * TransitionDetector compares the previous and the new state of a device when it is upserted into the device cache
+ * and records health changes and reboots. A reboot is detected when the reported uptime goes down.
+ * The last transitions are kept in bounded ring buffers per device and fleet-wide.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class TransitionDetector {
+	private final int deviceHistorySize;
+	private final Map<String, RingBuffer<DeviceTransition>> deviceTransitions = new HashMap<>();
+	private final RingBuffer<DeviceTransition> fleetTransitions;
+
+	/**
+	 * Create an instance of TransitionDetector
+	 *
+	 * @param deviceHistorySize number of transitions kept per device
+	 * @param fleetHistorySize number of transitions kept fleet-wide
+	 */
+	public TransitionDetector(int deviceHistorySize, int fleetHistorySize) {
+		this.deviceHistorySize = deviceHistorySize;
+		this.fleetTransitions = new RingBuffer<>(fleetHistorySize);
+	}
+
+	/**
+	 * Records the transitions between the previous and the current state of a device
+	 *
+	 * @param previous previous state of the device, null if the device is new
+	 * @param current current state of the device
+	 * @param timestamp time the current state was received at
+	 * @return true if a transition was recorded
+	 */
+	public synchronized boolean detect(AggregatedDevice previous, AggregatedDevice current, long timestamp) {
+		if (previous == null || previous.getProperties() == null || current.getProperties() == null) {
+			return false;
+		}
+		boolean detected = false;
+		String previousHealth = previous.getProperties().get(AggregatedInformation.DEVICE_STATUS.getName());
+		String currentHealth = current.getProperties().get(AggregatedInformation.DEVICE_STATUS.getName());
+		if (StringUtils.isNotNullOrEmpty(previousHealth) && StringUtils.isNotNullOrEmpty(currentHealth) && !previousHealth.equalsIgnoreCase(currentHealth)) {
+			record(new DeviceTransition(current.getDeviceId(), current.getDeviceName(), DeviceTransition.Type.HEALTH_CHANGE, timestamp,
+					StatusEnum.getNameByValue(previousHealth), StatusEnum.getNameByValue(currentHealth)));
+			detected = true;
+		}
+		long previousUptime = parseUptime(previous.getProperties().get(AggregatedInformation.UPTIME.getName()));
+		long currentUptime = parseUptime(current.getProperties().get(AggregatedInformation.UPTIME.getName()));
+		if (previousUptime >= 0 && currentUptime >= 0 && currentUptime < previousUptime) {
+			record(new DeviceTransition(current.getDeviceId(), current.getDeviceName(), DeviceTransition.Type.REBOOT, timestamp - currentUptime * 1000,
+					String.valueOf(previousUptime), String.valueOf(currentUptime)));
+			detected = true;
+		}
+		return detected;
+	}
+
+	/**
+	 * Drops the transition history of a removed device
+	 *
+	 * @param deviceId id of the device
+	 */
+	public synchronized void remove(String deviceId) {
+		deviceTransitions.remove(deviceId);
+	}
+
+	/**
+	 * Drops all transition history
+	 */
+	public synchronized void clear() {
+		deviceTransitions.clear();
+		fleetTransitions.clear();
+	}
+
+	/**
+	 * Retrieves the latest transition of the given type for a device
+	 *
+	 * @param deviceId id of the device
+	 * @param type type of the transition
+	 * @return latest transition or null if none was recorded
+	 */
+	public synchronized DeviceTransition getLatest(String deviceId, DeviceTransition.Type type) {
+		RingBuffer<DeviceTransition> buffer = deviceTransitions.get(deviceId);
+		return buffer == null ? null : latest(buffer, type);
+	}
+
+	/**
+	 * Retrieves the latest fleet-wide transition of the given type
+	 *
+	 * @param type type of the transition
+	 * @return latest transition or null if none was recorded
+	 */
+	public synchronized DeviceTransition getFleetLatest(DeviceTransition.Type type) {
+		return latest(fleetTransitions, type);
+	}
+
+	/**
+	 * Counts transitions of the given type recorded for a device since the given time
+	 *
+	 * @param deviceId id of the device
+	 * @param type type of the transition
+	 * @param since start of the counted period
+	 * @return number of transitions
+	 */
+	public synchronized int count(String deviceId, DeviceTransition.Type type, long since) {
+		RingBuffer<DeviceTransition> buffer = deviceTransitions.get(deviceId);
+		return buffer == null ? 0 : count(buffer, type, since);
+	}
+
+	/**
+	 * Counts fleet-wide transitions of the given type since the given time
+	 *
+	 * @param type type of the transition
+	 * @param since start of the counted period
+	 * @return number of transitions
+	 */
+	public synchronized int countFleet(DeviceTransition.Type type, long since) {
+		return count(fleetTransitions, type, since);
+	}
+
+	/**
+	 * Adds a transition to the device and the fleet ring buffers
+	 *
+	 * @param transition detected transition
+	 */
+	private void record(DeviceTransition transition) {
+		deviceTransitions.computeIfAbsent(transition.getDeviceId(), key -> new RingBuffer<>(deviceHistorySize)).add(transition);
+		fleetTransitions.add(transition);
+	}
+
+	/**
+	 * Retrieves the latest transition of the given type from a buffer
+	 *
+	 * @param buffer transitions buffer
+	 * @param type type of the transition
+	 * @return latest transition or null
+	 */
+	private DeviceTransition latest(RingBuffer<DeviceTransition> buffer, DeviceTransition.Type type) {
+		DeviceTransition result = null;
+		for (DeviceTransition item : buffer.toList()) {
+			if (item.getType() == type && (result == null || item.getTimestamp() >= result.getTimestamp())) {
+				result = item;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Counts transitions of the given type in a buffer since the given time
+	 *
+	 * @param buffer transitions buffer
+	 * @param type type of the transition
+	 * @param since start of the counted period
+	 * @return number of transitions
+	 */
+	private int count(RingBuffer<DeviceTransition> buffer, DeviceTransition.Type type, long since) {
+		return (int) buffer.toList().stream().filter(item -> item.getType() == type && item.getTimestamp() >= since).count();
+	}
+
+	/**
+	 * Parses uptime in the "[d.]hh:mm:ss[.fff]" format into seconds
+	 *
+	 * @param uptime uptime value reported by BSN.cloud
+	 * @return uptime in seconds or -1 if the value can't be parsed
+	 */
+	static long parseUptime(String uptime) {
+		if (StringUtils.isNullOrEmpty(uptime)) {
+			return -1;
+		}
+		String[] timeParts = uptime.split(":");
+		if (timeParts.length != 3) {
+			return -1;
+		}
+		try {
+			long days = 0;
+			long hours;
+			if (timeParts[0].contains(".")) {
+				String[] dayTimeParts = timeParts[0].split("\\.");
+				days = Long.parseLong(dayTimeParts[0]);
+				hours = Long.parseLong(dayTimeParts[1]);
+			} else {
+				hours = Long.parseLong(timeParts[0]);
+			}
+			long minutes = Long.parseLong(timeParts[1]);
+			long seconds = (long) Double.parseDouble(timeParts[2]);
+			return ((days * 24 + hours) * 60 + minutes) * 60 + seconds;
+		} catch (Exception e) {
+			return -1;
+		}
+	}
+}
@@ -155,6 +155,22 @@ public class BrightSignBSNCloudCommunicatorTest {
 	}
 
 
+	@Test
+	void testGroupAggregatedDevices() throws Exception {
+		brightSignBSNCloudCommunicator.setDisplayGroupAggregates(true);
+		brightSignBSNCloudCommunicator.getMultipleStatistics();
+		brightSignBSNCloudCommunicator.retrieveMultipleStatistics();
+		Thread.sleep(20000);
+		List<AggregatedDevice> aggregatedDeviceList = brightSignBSNCloudCommunicator.retrieveMultipleStatistics();
+		Optional<AggregatedDevice> aggregatedDevice = aggregatedDeviceList.stream().filter(item -> item.getDeviceId().equals("group_373011")).findFirst();
+		Assert.assertTrue(aggregatedDevice.isPresent());
+		Map<String, String> stats = aggregatedDevice.get().getProperties();
+		Assert.assertEquals("Default", stats.get("GroupName"));
+		Assert.assertEquals("1", stats.get("NumberOfDevices"));
+		Assert.assertEquals("1", stats.get("Health#Healthy"));
+	}
+
+
 	@Test
 	void testRebootControl() throws Exception {
 		brightSignBSNCloudCommunicator.getMultipleStatistics();
@@ -0,0 +1,203 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.BrightSignBSNCloudCommand;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.BrightSignBSNCloudConstant;
+
+/**
+ * ControlQueueTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class ControlQueueTest {
+	private static final String REBOOT = "https://ws.bsn.cloud/rest/v1/control/reboot/";
+	private static final String SUCCESS = "{\"data\":{\"result\":{\"success\":true}}}";
+	private static final String DEVICE_ID = "1";
+
+	private final AtomicInteger failures = new AtomicInteger();
+	private MockBrightSignBSNCloudCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new MockBrightSignBSNCloudCommunicator();
+		communicator.setPollingInterval(20);
+		communicator.setAsyncControl(true);
+		communicator.setControlRetries(2);
+		communicator.setControlRetryDelay(10);
+		communicator.respond(BrightSignBSNCloudCommand.GET_ALL_DEVICES,
+				MockBrightSignBSNCloudCommunicator.createPage(MockBrightSignBSNCloudCommunicator.createDevice(1, "Lobby", "Normal", 10, "Screens")));
+		communicator.respond(REBOOT, url -> {
+			if (failures.getAndDecrement() > 0) {
+				throw new ResourceNotReachableException("Connection reset");
+			}
+			return SUCCESS;
+		});
+		communicator.init();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (communicator.retrieveMultipleStatistics().isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		communicator.destroy();
+	}
+
+	/**
+	 * The control is acknowledged with a pending status before the reboot request completes
+	 */
+	@Test
+	void testControlIsAcknowledgedImmediately() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		communicator.respond(REBOOT, url -> {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return SUCCESS;
+		});
+
+		communicator.controlProperty(createReboot());
+
+		Assert.assertEquals("Pending", getCommandStatistics().get("Command#Status"));
+		Assert.assertEquals(BrightSignBSNCloudConstant.REBOOT_PLAYER, getCommandStatistics().get("Command#LastCommand"));
+		release.countDown();
+		Assert.assertEquals("Succeeded", waitForCompletion().get("Command#Status"));
+	}
+
+	/**
+	 * Failed attempts are retried until the reboot succeeds
+	 */
+	@Test
+	void testControlIsRetriedUntilSuccess() throws Exception {
+		failures.set(2);
+
+		communicator.controlProperty(createReboot());
+
+		Map<String, String> statistics = waitForCompletion();
+		Assert.assertEquals("Succeeded", statistics.get("Command#Status"));
+		Assert.assertEquals("3", statistics.get("Command#Attempts"));
+		Assert.assertNull(statistics.get("Command#Error"));
+		Assert.assertEquals(3, communicator.getRequests(REBOOT).size());
+	}
+
+	/**
+	 * The control fails with the error of the last attempt once the retries are spent
+	 */
+	@Test
+	void testControlFailsAfterRetries() throws Exception {
+		failures.set(Integer.MAX_VALUE);
+
+		communicator.controlProperty(createReboot());
+
+		Map<String, String> statistics = waitForCompletion();
+		Assert.assertEquals("Failed", statistics.get("Command#Status"));
+		Assert.assertEquals("3", statistics.get("Command#Attempts"));
+		Assert.assertEquals("Connection reset", statistics.get("Command#Error"));
+		Assert.assertEquals(3, communicator.getRequests(REBOOT).size());
+	}
+
+	/**
+	 * A control interrupted while waiting for its retry fails without retrying, and the interrupt is kept
+	 */
+	@Test
+	void testControlInterruptedBeforeRetry() throws Exception {
+		failures.set(Integer.MAX_VALUE);
+		communicator.setControlRetryDelay(60000);
+		// A batch of one control runs on the calling thread, so the test can interrupt it
+		AtomicReference<Exception> error = new AtomicReference<>();
+		AtomicBoolean interrupted = new AtomicBoolean();
+		Thread caller = new Thread(() -> {
+			try {
+				communicator.controlProperties(Collections.singletonList(createReboot()));
+			} catch (Exception e) {
+				error.set(e);
+			}
+			interrupted.set(Thread.currentThread().isInterrupted());
+		});
+		caller.start();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (communicator.getRequests(REBOOT).isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		Thread.sleep(100);
+		caller.interrupt();
+		caller.join(5000);
+
+		Assert.assertFalse(caller.isAlive());
+		Assert.assertNotNull(error.get());
+		Assert.assertTrue(interrupted.get());
+		Map<String, String> statistics = getCommandStatistics();
+		Assert.assertEquals("Failed", statistics.get("Command#Status"));
+		Assert.assertEquals("1", statistics.get("Command#Attempts"));
+		Assert.assertEquals("Interrupted before retrying: Connection reset", statistics.get("Command#Error"));
+		Assert.assertEquals(1, communicator.getRequests(REBOOT).size());
+	}
+
+	/**
+	 * Creates the reboot control of the device
+	 *
+	 * @return reboot control
+	 */
+	private ControllableProperty createReboot() {
+		ControllableProperty property = new ControllableProperty();
+		property.setDeviceId(DEVICE_ID);
+		property.setProperty(BrightSignBSNCloudConstant.REBOOT_PLAYER);
+		property.setValue("1");
+		return property;
+	}
+
+	/**
+	 * Retrieves the published statistics of the device
+	 *
+	 * @return statistics of the device
+	 * @throws Exception if the device cannot be retrieved
+	 */
+	private Map<String, String> getCommandStatistics() throws Exception {
+		List<AggregatedDevice> devices = communicator.retrieveMultipleStatistics(Collections.singletonList(DEVICE_ID));
+		Assert.assertEquals(1, devices.size());
+		return devices.get(0).getProperties();
+	}
+
+	/**
+	 * Waits until the command of the device completes
+	 *
+	 * @return statistics of the device
+	 * @throws Exception if the device cannot be retrieved
+	 */
+	private Map<String, String> waitForCompletion() throws Exception {
+		Map<String, String> statistics = getCommandStatistics();
+		long deadline = System.currentTimeMillis() + 5000;
+		while ("Pending".equals(statistics.get("Command#Status")) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+			statistics = getCommandStatistics();
+		}
+		return statistics;
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.BrightSignBSNCloudCommand;
+
+/**
+ * DeltaPublishTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class DeltaPublishTest {
+	private static final long HOUR = 60 * 60 * 1000L;
+
+	private final AtomicReference<String> page = new AtomicReference<>();
+	private MockBrightSignBSNCloudCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new MockBrightSignBSNCloudCommunicator();
+		communicator.setPollingInterval(20);
+		communicator.setDeltaPublish(true);
+		communicator.setFullPublishInterval(HOUR);
+		communicator.respond(BrightSignBSNCloudCommand.GET_ALL_DEVICES, url -> page.get());
+		communicator.respond(BrightSignBSNCloudCommand.GET_NUMBER_OF_DEVICES, "2");
+		page.set(MockBrightSignBSNCloudCommunicator.createPage(MockBrightSignBSNCloudCommunicator.createDevice(1, "Lobby", "Normal", 10, "Screens"),
+				MockBrightSignBSNCloudCommunicator.createDevice(2, "Kitchen", "Normal", 10, "Screens")));
+	}
+
+	@AfterEach
+	void tearDown() {
+		communicator.destroy();
+	}
+
+	/**
+	 * Devices polled again without a published change are skipped, even though their uptime changes on every poll
+	 */
+	@Test
+	void testUnchangedDevicesAreSkipped() throws Exception {
+		publishInitialDevices();
+
+		waitForCycles();
+
+		Assert.assertTrue(communicator.retrieveMultipleStatistics().isEmpty());
+	}
+
+	/**
+	 * A change to the online state or to a mapped property publishes the changed device only
+	 */
+	@Test
+	void testChangedDevicesArePublished() throws Exception {
+		publishInitialDevices();
+
+		page.set(MockBrightSignBSNCloudCommunicator.createPage(MockBrightSignBSNCloudCommunicator.createDevice(1, "Lobby", "Error", 10, "Screens"),
+				MockBrightSignBSNCloudCommunicator.createDevice(2, "Kitchen", "Normal", 10, "Screens")));
+		Map<String, AggregatedDevice> devices = waitForDevices(1);
+		Assert.assertFalse(devices.get("1").getDeviceOnline());
+
+		page.set(MockBrightSignBSNCloudCommunicator.createPage(MockBrightSignBSNCloudCommunicator.createDevice(1, "Lobby", "Error", 10, "Screens"),
+				MockBrightSignBSNCloudCommunicator.createDevice(2, "Kitchen", "Normal", 10, "Menus")));
+		devices = waitForDevices(1);
+		Assert.assertEquals("Menus", devices.get("2").getProperties().get("GroupName"));
+	}
+
+	/**
+	 * Every device is published again once the full publish interval elapses
+	 */
+	@Test
+	void testPeriodicFullPublish() throws Exception {
+		communicator.setFullPublishInterval(500);
+		publishInitialDevices();
+		waitForCycles();
+		Assert.assertTrue(communicator.retrieveMultipleStatistics().isEmpty());
+
+		Thread.sleep(500);
+
+		Assert.assertEquals(2, communicator.retrieveMultipleStatistics().size());
+		Assert.assertTrue(communicator.retrieveMultipleStatistics().isEmpty());
+	}
+
+	/**
+	 * A failed publish leaves the watermark in place, the changes are published by the next successful call
+	 */
+	@Test
+	void testWatermarkAdvancesAfterSuccessfulCall() throws Exception {
+		publishInitialDevices();
+
+		// The name change is a published change, the uptime that cannot be formatted fails the publish
+		page.set(MockBrightSignBSNCloudCommunicator.createPage(MockBrightSignBSNCloudCommunicator.createDevice(1, "Lobby", "Normal", 10, "Screens"),
+				MockBrightSignBSNCloudCommunicator.createDevice(2, "Kitchen backup", "Normal", 10, "Screens").replaceFirst("\"uptime\":\"\\d+\"", "\"uptime\":\"x:00:00\"")));
+		waitForCycles();
+		try {
+			communicator.retrieveMultipleStatistics();
+			Assert.fail("The publish of the malformed uptime is expected to fail");
+		} catch (NumberFormatException e) {
+			// expected
+		}
+
+		// Fixing the uptime alone is not a published change, the device is published because the watermark did not advance
+		page.set(MockBrightSignBSNCloudCommunicator.createPage(MockBrightSignBSNCloudCommunicator.createDevice(1, "Lobby", "Normal", 10, "Screens"),
+				MockBrightSignBSNCloudCommunicator.createDevice(2, "Kitchen backup", "Normal", 10, "Screens")));
+		waitForCycles();
+		List<AggregatedDevice> published = communicator.retrieveMultipleStatistics();
+		Assert.assertEquals(1, published.size());
+		Assert.assertEquals("Kitchen backup", published.get(0).getDeviceName());
+
+		Assert.assertTrue(communicator.retrieveMultipleStatistics().isEmpty());
+	}
+
+	/**
+	 * Starts the communicator and publishes the devices of its first complete walk.
+	 * A device added to the cache while being published is published again by the next call, so the walk completes first.
+	 *
+	 * @throws Exception if the devices cannot be retrieved
+	 */
+	private void publishInitialDevices() throws Exception {
+		communicator.init();
+		waitForCycles();
+		Assert.assertEquals("The first call publishes every device", 2, communicator.retrieveMultipleStatistics().size());
+	}
+
+	/**
+	 * Waits until the published devices reach a number
+	 *
+	 * @param count expected number of published devices
+	 * @return published devices keyed by device id
+	 * @throws Exception if the devices cannot be retrieved
+	 */
+	private Map<String, AggregatedDevice> waitForDevices(int count) throws Exception {
+		Map<String, AggregatedDevice> devices = new HashMap<>();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (System.currentTimeMillis() < deadline) {
+			communicator.retrieveMultipleStatistics().forEach(device -> devices.put(device.getDeviceId(), device));
+			if (devices.size() >= count) {
+				break;
+			}
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(count, devices.size());
+		return devices;
+	}
+
+	/**
+	 * Waits until the device list was walked twice, so one complete walk started after the current page was set
+	 *
+	 * @throws Exception if the wait is interrupted
+	 */
+	private void waitForCycles() throws Exception {
+		int walked = countPageRequests();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (countPageRequests() < walked + 2 && System.currentTimeMillis() < deadline) {
+			communicator.retrieveMultipleStatistics(Collections.emptyList());
+			Thread.sleep(10);
+		}
+		Assert.assertTrue(countPageRequests() >= walked + 2);
+	}
+
+	/**
+	 * Counts the requested pages of the device list
+	 *
+	 * @return number of page requests
+	 */
+	private int countPageRequests() {
+		return (int) communicator.getRequests(BrightSignBSNCloudCommand.GET_ALL_DEVICES).stream().filter(url -> url.contains("pageSize=")).count();
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.BrightSignBSNCloudCommand;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.BrightSignBSNCloudConstant;
+
+/**
+ * GroupFilterTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class GroupFilterTest {
+	private static final String GROUPS = "{\"items\":[{\"id\":10,\"name\":\"Screens\"},{\"id\":11,\"name\":\"Lobby & Bar\"},{\"id\":12,\"name\":\"Menus\"}],\"isTruncated\":false}";
+	private static final String PAGE_FILTER = BrightSignBSNCloudCommand.GET_ALL_DEVICES + "?filter=";
+	private static final String COUNT_FILTER = BrightSignBSNCloudCommand.GET_NUMBER_OF_DEVICES + "?filter=";
+
+	private final AtomicReference<String> groups = new AtomicReference<>(GROUPS);
+	private final List<String> warnings = Collections.synchronizedList(new ArrayList<>());
+	private final Logger log = Logger.getLogger(MockBrightSignBSNCloudCommunicator.class.getName());
+	private final Handler handler = new Handler() {
+		@Override
+		public void publish(LogRecord logRecord) {
+			if (logRecord.getLevel() == Level.WARNING) {
+				warnings.add(logRecord.getMessage());
+			}
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+	private MockBrightSignBSNCloudCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		log.addHandler(handler);
+		communicator = new MockBrightSignBSNCloudCommunicator();
+		communicator.setPollingInterval(20);
+		communicator.respond(BrightSignBSNCloudCommand.GET_GROUPS, url -> groups.get());
+		communicator.respond(BrightSignBSNCloudCommand.GET_NUMBER_OF_DEVICES, "1");
+		communicator.respond(BrightSignBSNCloudCommand.GET_ALL_DEVICES,
+				MockBrightSignBSNCloudCommunicator.createPage(MockBrightSignBSNCloudCommunicator.createDevice(1, "Lobby", "Normal", 11, "Lobby & Bar #1")));
+	}
+
+	@AfterEach
+	void tearDown() {
+		communicator.destroy();
+		log.removeHandler(handler);
+	}
+
+	/**
+	 * Filtered group names are sent as the ids of the groups on the Count and Devices requests, the groups being retrieved once within their TTL
+	 */
+	@Test
+	void testGroupNamesAreSentAsIds() throws Exception {
+		communicator.setFilterByGroupName("Screens, Lobby & Bar");
+		Assert.assertEquals(COUNT_FILTER + "[Status].[Group].[ID] IS IN (10,11)", getCountRequest());
+
+		communicator.init();
+		waitForPages(3);
+		for (String page : getPageRequests()) {
+			Assert.assertTrue(page, page.startsWith(PAGE_FILTER + "[Status].[Group].[ID] IS IN (10,11)&pageSize="));
+		}
+		Assert.assertEquals(1, communicator.getRequests(BrightSignBSNCloudCommand.GET_GROUPS).size());
+		Assert.assertTrue(warnings.toString(), warnings.stream().noneMatch(warning -> warning.contains("filterByGroupName")));
+	}
+
+	/**
+	 * Group names missing from the network are reported and left out of the filter
+	 */
+	@Test
+	void testUnknownGroupNamesAreReported() throws Exception {
+		communicator.setFilterByGroupName("Screens, Lounge");
+		communicator.init();
+		waitForPages(1);
+
+		Assert.assertTrue(getPageRequests().get(0).startsWith(PAGE_FILTER + "[Status].[Group].[ID] IS IN (10)&pageSize="));
+		Assert.assertTrue(warnings.toString(), warnings.contains("Groups [Lounge] of filterByGroupName do not exist in network network and are ignored"));
+	}
+
+	/**
+	 * When none of the filtered group names exists, the network is not requested for devices and reports no device
+	 */
+	@Test
+	void testOnlyUnknownGroupNamesSkipRequests() throws Exception {
+		communicator.setFilterByGroupName("Lounge");
+		communicator.init();
+		Map<String, String> statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (BrightSignBSNCloudConstant.NONE.equals(statistics.get("Polling#LastSuccessfulCycle")) && System.currentTimeMillis() < deadline) {
+			communicator.retrieveMultipleStatistics();
+			Thread.sleep(10);
+			statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+		}
+
+		Assert.assertNotEquals(BrightSignBSNCloudConstant.NONE, statistics.get("Polling#LastSuccessfulCycle"));
+		Assert.assertEquals("0", statistics.get("NumberOfDevices"));
+		Assert.assertTrue(communicator.getRequests(COUNT_FILTER).isEmpty());
+		Assert.assertTrue(communicator.getRequests(PAGE_FILTER).isEmpty());
+		Assert.assertTrue(communicator.retrieveMultipleStatistics().isEmpty());
+		Assert.assertTrue(warnings.toString(), warnings.contains("Groups [Lounge] of filterByGroupName do not exist in network network and are ignored"));
+	}
+
+	/**
+	 * The groups are retrieved again once their TTL expires, and the filter follows a group id change
+	 */
+	@Test
+	void testGroupsAreRefreshedAfterTtl() throws Exception {
+		communicator.setFilterByGroupName("Screens");
+		communicator.setGroupsTtl(200);
+		communicator.init();
+		waitForPages(1);
+		Assert.assertTrue(getPageRequests().get(0).startsWith(PAGE_FILTER + "[Status].[Group].[ID] IS IN (10)&pageSize="));
+
+		groups.set("{\"items\":[{\"id\":20,\"name\":\"Screens\"}],\"isTruncated\":false}");
+		long deadline = System.currentTimeMillis() + 5000;
+		List<String> pages = getPageRequests();
+		while (!pages.get(pages.size() - 1).contains("IS IN (20)") && System.currentTimeMillis() < deadline) {
+			communicator.retrieveMultipleStatistics();
+			Thread.sleep(10);
+			pages = getPageRequests();
+		}
+
+		Assert.assertTrue(pages.get(pages.size() - 1).startsWith(PAGE_FILTER + "[Status].[Group].[ID] IS IN (20)&pageSize="));
+		Assert.assertTrue(communicator.getRequests(BrightSignBSNCloudCommand.GET_GROUPS).size() >= 2);
+	}
+
+	/**
+	 * Without the groups of the network, the filter falls back to the quoted group names
+	 */
+	@Test
+	void testGroupNamesAreSentWhenGroupsAreUnavailable() throws Exception {
+		communicator.respond(BrightSignBSNCloudCommand.GET_GROUPS, url -> {
+			throw new ResourceNotReachableException("Connection reset");
+		});
+		communicator.setFilterByGroupName("Screens, Lobby & Bar");
+		communicator.init();
+		waitForPages(1);
+
+		Assert.assertTrue(getPageRequests().get(0).startsWith(PAGE_FILTER + "[Status].[Group].[Name] IS IN ('Screens','Lobby & Bar')&pageSize="));
+	}
+
+	/**
+	 * The name of a rebooted group is encoded in the reboot url
+	 */
+	@Test
+	void testGroupRebootNameIsEncoded() throws Exception {
+		communicator.respond("https://ws.bsn.cloud/rest/v1/control/reboot/", "{\"data\":{\"result\":{\"success\":true}}}");
+		communicator.init();
+		waitForPages(1);
+		long deadline = System.currentTimeMillis() + 5000;
+		while (communicator.retrieveMultipleStatistics(Collections.singletonList("1")).isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+
+		communicator.controlProperty(createControl(BrightSignBSNCloudConstant.GROUP_REBOOT + BrightSignBSNCloudConstant.HASH + BrightSignBSNCloudConstant.GROUP_REBOOT_GROUP, "11"));
+		communicator.controlProperty(createControl(BrightSignBSNCloudConstant.GROUP_REBOOT + BrightSignBSNCloudConstant.HASH + BrightSignBSNCloudConstant.REBOOT_GROUP, "1"));
+
+		Assert.assertEquals(Collections.singletonList("https://ws.bsn.cloud/rest/v1/control/reboot/?destinationType=group&destinationName=Lobby%20%26%20Bar%20%231"),
+				communicator.getRequests("https://ws.bsn.cloud/rest/v1/control/reboot/"));
+	}
+
+	/**
+	 * Creates an aggregator control
+	 *
+	 * @param property name of the control
+	 * @param value value of the control
+	 * @return control
+	 */
+	private ControllableProperty createControl(String property, String value) {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(property);
+		controllableProperty.setValue(value);
+		return controllableProperty;
+	}
+
+	/**
+	 * Retrieves the requested pages of the device list
+	 *
+	 * @return urls of the page requests
+	 */
+	private List<String> getPageRequests() {
+		List<String> pages = communicator.getRequests(PAGE_FILTER);
+		Assert.assertFalse(pages.isEmpty());
+		return pages;
+	}
+
+	/**
+	 * Retrieves the device count through the network statistics, before the device list walks report it
+	 *
+	 * @return url of the first Count request
+	 * @throws Exception if the statistics cannot be retrieved
+	 */
+	private String getCountRequest() throws Exception {
+		communicator.getMultipleStatistics();
+		List<String> counts = communicator.getRequests(COUNT_FILTER);
+		Assert.assertFalse(counts.isEmpty());
+		return counts.get(0);
+	}
+
+	/**
+	 * Waits until a number of device list pages were requested
+	 *
+	 * @param count expected number of page requests
+	 * @throws Exception if the devices cannot be retrieved
+	 */
+	private void waitForPages(int count) throws Exception {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (communicator.getRequests(PAGE_FILTER).size() < count && System.currentTimeMillis() < deadline) {
+			communicator.retrieveMultipleStatistics();
+			Thread.sleep(10);
+		}
+		Assert.assertTrue(communicator.getRequests(PAGE_FILTER).size() >= count);
+	}
+}
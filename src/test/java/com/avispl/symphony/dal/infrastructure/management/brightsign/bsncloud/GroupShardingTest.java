@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.BrightSignBSNCloudCommand;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.ShardAssigner;
+
+/**
+ * GroupShardingTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class GroupShardingTest {
+	private static final int SHARD_COUNT = 2;
+	private static final int GROUP_COUNT = 10;
+	private static final String FLEET_COUNT = "100";
+
+	private final List<String> ownedGroupIds = new ArrayList<>();
+	private MockBrightSignBSNCloudCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new MockBrightSignBSNCloudCommunicator();
+		communicator.setPollingInterval(20);
+		communicator.setShardCount(SHARD_COUNT);
+		communicator.setShardIndex(0);
+		communicator.setShardMode("Group");
+		communicator.respond(BrightSignBSNCloudCommand.GET_NUMBER_OF_DEVICES, FLEET_COUNT);
+		List<String> groups = new ArrayList<>();
+		String[] devices = new String[GROUP_COUNT];
+		for (int i = 0; i < GROUP_COUNT; i++) {
+			int groupId = 10 + i;
+			groups.add(String.format("{\"id\":%d,\"name\":\"Group %d\"}", groupId, groupId));
+			devices[i] = MockBrightSignBSNCloudCommunicator.createDevice(i + 1, "Player " + (i + 1), "Normal", groupId, "Group " + groupId);
+			if (ShardAssigner.owns(String.valueOf(groupId), 0, SHARD_COUNT)) {
+				ownedGroupIds.add(String.valueOf(groupId));
+			}
+		}
+		communicator.respond(BrightSignBSNCloudCommand.GET_GROUPS, "{\"items\":[" + String.join(",", groups) + "],\"isTruncated\":false}");
+		communicator.respond(BrightSignBSNCloudCommand.GET_ALL_DEVICES, MockBrightSignBSNCloudCommunicator.createPage(devices));
+		Assert.assertTrue(!ownedGroupIds.isEmpty() && ownedGroupIds.size() < GROUP_COUNT);
+	}
+
+	@AfterEach
+	void tearDown() {
+		communicator.destroy();
+	}
+
+	/**
+	 * Once the groups are known, the count is filtered on the groups owned by the shard
+	 */
+	@Test
+	void testCountIsFilteredOnShardGroups() throws Exception {
+		Map<String, String> statistics = getStatistics();
+
+		Assert.assertEquals(FLEET_COUNT, statistics.get("NumberOfDevices"));
+		List<String> counts = communicator.getRequests(BrightSignBSNCloudCommand.GET_NUMBER_OF_DEVICES);
+		Assert.assertEquals(1, counts.size());
+		Assert.assertEquals(BrightSignBSNCloudCommand.GET_NUMBER_OF_DEVICES + "?filter=[Status].[Group].[ID] IS IN (" + String.join(",", ownedGroupIds) + ")", counts.get(0));
+	}
+
+	/**
+	 * Without the groups, the count is not requested for the whole fleet and comes from the walk of the owned devices
+	 */
+	@Test
+	void testCountComesFromWalkWithoutGroups() throws Exception {
+		communicator.respond(BrightSignBSNCloudCommand.GET_GROUPS, url -> {
+			throw new ResourceNotReachableException("Connection reset");
+		});
+
+		Map<String, String> statistics = getStatistics();
+		Assert.assertEquals("0", statistics.get("NumberOfDevices"));
+
+		communicator.init();
+		long deadline = System.currentTimeMillis() + 5000;
+		while ("0".equals(statistics.get("NumberOfDevices")) && System.currentTimeMillis() < deadline) {
+			communicator.retrieveMultipleStatistics();
+			Thread.sleep(10);
+			statistics = getStatistics();
+		}
+
+		Assert.assertEquals(String.valueOf(ownedGroupIds.size()), statistics.get("NumberOfDevices"));
+		Assert.assertEquals(String.valueOf(ownedGroupIds.size()), statistics.get("Sharding#OwnedDevices"));
+		Assert.assertTrue(communicator.getRequests(BrightSignBSNCloudCommand.GET_NUMBER_OF_DEVICES).isEmpty());
+	}
+
+	/**
+	 * Retrieves the statistics of the aggregator
+	 *
+	 * @return statistics of the aggregator
+	 * @throws Exception if the statistics cannot be retrieved
+	 */
+	private Map<String, String> getStatistics() throws Exception {
+		return ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+	}
+}
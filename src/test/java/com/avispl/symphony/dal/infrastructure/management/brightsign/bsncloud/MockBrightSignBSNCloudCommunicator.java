@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.MultiValueMap;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.BrightSignBSNCloudCommand;
+
+/**
+ * MockBrightSignBSNCloudCommunicator answers the BSN.cloud requests with canned responses, so the communicator runs without the cloud.
+ * The token of a network is the name of the network, so the responses can differ per network.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+class MockBrightSignBSNCloudCommunicator extends BrightSignBSNCloudCommunicator {
+	/**
+	 * Name of the network of the login field
+	 */
+	static final String NETWORK = "network";
+
+	/**
+	 * Key of the responses answering every network
+	 */
+	private static final String ALL_NETWORKS = "*";
+
+	/**
+	 * Makes the credentials of every instance unique, so instances do not share their tokens through the token registry
+	 */
+	private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+	/**
+	 * Responses keyed by the network and the url prefix they answer, the longest matching prefix of the network is used,
+	 * then the longest one answering every network
+	 */
+	private final Map<String, Map<String, Function<String, String>>> responses = new ConcurrentHashMap<>();
+
+	/**
+	 * Urls of the received requests
+	 */
+	private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+
+	/**
+	 * Whether BSN.cloud is reachable, requests fail as connection failures otherwise
+	 */
+	private volatile boolean reachable = true;
+
+	/**
+	 * Create an instance of MockBrightSignBSNCloudCommunicator logged in to {@link #NETWORK}
+	 *
+	 * @throws IOException if the model mapping cannot be loaded
+	 */
+	MockBrightSignBSNCloudCommunicator() throws IOException {
+		setHost("localhost");
+		setLogin(NETWORK + "/user@example.com client" + INSTANCES.incrementAndGet());
+		setPassword("password secret");
+		respond(BrightSignBSNCloudCommand.NETWORK_INFO, "[{\"name\":\"" + NETWORK + "\",\"isLockedOut\":false}]");
+		respond(BrightSignBSNCloudCommand.GET_NUMBER_OF_DEVICES, "0");
+		respond(BrightSignBSNCloudCommand.GET_GROUPS, "{\"items\":[]}");
+		respond(BrightSignBSNCloudCommand.GET_ALL_DEVICES, "{\"items\":[]}");
+	}
+
+	/**
+	 * Answers the requests whose url starts with a prefix
+	 *
+	 * @param urlPrefix prefix of the answered urls
+	 * @param response response body
+	 */
+	void respond(String urlPrefix, String response) {
+		respond(urlPrefix, url -> response);
+	}
+
+	/**
+	 * Answers the requests whose url starts with a prefix
+	 *
+	 * @param urlPrefix prefix of the answered urls
+	 * @param response creates the response body from the url, a thrown exception fails the request
+	 */
+	void respond(String urlPrefix, Function<String, String> response) {
+		respond(ALL_NETWORKS, urlPrefix, response);
+	}
+
+	/**
+	 * Answers the requests of a network whose url starts with a prefix
+	 *
+	 * @param network name of the network
+	 * @param urlPrefix prefix of the answered urls
+	 * @param response creates the response body from the url, a thrown exception fails the request
+	 */
+	void respond(String network, String urlPrefix, Function<String, String> response) {
+		responses.computeIfAbsent(network, key -> new ConcurrentHashMap<>()).put(urlPrefix, response);
+	}
+
+	/**
+	 * Creates a device of the device list
+	 *
+	 * @param id id of the device
+	 * @param name name of the device
+	 * @param health health of the device, Normal for an online device
+	 * @param groupId id of the group of the device
+	 * @param groupName name of the group of the device
+	 * @return device as returned by BSN.cloud
+	 */
+	static String createDevice(int id, String name, String health, int groupId, String groupName) {
+		return String.format("{\"id\":%d,\"serial\":\"SN%d\",\"model\":\"XT1144\",\"settings\":{\"name\":\"%s\"},"
+				+ "\"status\":{\"health\":\"%s\",\"uptime\":\"%d\",\"group\":{\"id\":%d,\"name\":\"%s\"}}}", id, id, name, health, System.nanoTime(), groupId, groupName);
+	}
+
+	/**
+	 * Creates the last page of the device list
+	 *
+	 * @param devices devices of the page, see {@link #createDevice(int, String, String, int, String)}
+	 * @return page as returned by BSN.cloud
+	 */
+	static String createPage(String... devices) {
+		return "{\"items\":[" + String.join(",", devices) + "],\"isTruncated\":false}";
+	}
+
+	/**
+	 * Sets {@link #reachable} value
+	 *
+	 * @param reachable new value of {@link #reachable}
+	 */
+	void setReachable(boolean reachable) {
+		this.reachable = reachable;
+	}
+
+	/**
+	 * Retrieves the received requests whose url starts with a prefix
+	 *
+	 * @param urlPrefix prefix of the urls
+	 * @return urls of the matching requests, in the order received
+	 */
+	List<String> getRequests(String urlPrefix) {
+		List<String> matching = new ArrayList<>();
+		synchronized (requests) {
+			for (String url : requests) {
+				if (url.startsWith(urlPrefix)) {
+					matching.add(url);
+				}
+			}
+		}
+		return matching;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected <Response> Response doGet(String url, Class<Response> responseClass) throws Exception {
+		return answer(url, responseClass);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected <Request, Response> Response doPost(String url, Request request, Class<Response> responseClass) throws Exception {
+		if (url.startsWith(BrightSignBSNCloudCommand.REST_TOKEN) && request instanceof MultiValueMap) {
+			requests.add(url);
+			if (!reachable) {
+				throw new ResourceNotReachableException("BSN.cloud is not reachable");
+			}
+			MultiValueMap<?, ?> form = (MultiValueMap<?, ?>) request;
+			Object username = form.toSingleValueMap().get("username");
+			String network = username == null ? String.valueOf(form.toSingleValueMap().get("refresh_token")) : String.valueOf(username).split("/")[0];
+			String token = String.format("{\"access_token\":\"%s\",\"refresh_token\":\"%s\",\"expires_in\":3600}", network, network);
+			return objectMapper.readValue(token, responseClass);
+		}
+		return answer(url, responseClass);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected <Request, Response> Response doPut(String url, Request request, Class<Response> responseClass) throws Exception {
+		return answer(url, responseClass);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected JsonNode doPut(URI uri, Object request) throws Exception {
+		return answer(uri.toString(), JsonNode.class);
+	}
+
+	/**
+	 * Retrieves the response of the longest url prefix matching a url, a response of the network wins over one answering every network
+	 *
+	 * @param network name of the network, null if the request has no token
+	 * @param url request url
+	 * @return matching response, null if none
+	 */
+	private Function<String, String> findResponse(String network, String url) {
+		Function<String, String> response = null;
+		int prefixLength = -1;
+		for (String key : new String[] { network, ALL_NETWORKS }) {
+			Map<String, Function<String, String>> networkResponses = key == null ? Collections.emptyMap() : responses.getOrDefault(key, Collections.emptyMap());
+			for (Map.Entry<String, Function<String, String>> candidate : networkResponses.entrySet()) {
+				if (url.startsWith(candidate.getKey()) && candidate.getKey().length() > prefixLength) {
+					prefixLength = candidate.getKey().length();
+					response = candidate.getValue();
+				}
+			}
+		}
+		return response;
+	}
+
+	/**
+	 * Records a request and answers it with the response of the longest matching url prefix, see {@link #findResponse(String, String)}
+	 *
+	 * @param url request url
+	 * @param responseClass type of the response
+	 * @param <Response> type of the response
+	 * @return response of the request
+	 * @throws ResourceNotReachableException if BSN.cloud is not {@link #reachable}
+	 * @throws CommandFailureException if no response matches the url
+	 * @throws Exception if the response cannot be read
+	 */
+	private <Response> Response answer(String url, Class<Response> responseClass) throws Exception {
+		requests.add(url);
+		if (!reachable) {
+			throw new ResourceNotReachableException("BSN.cloud is not reachable");
+		}
+		String authorization = putExtraRequestHeaders(HttpMethod.GET, url, new HttpHeaders()).getFirst(HttpHeaders.AUTHORIZATION);
+		Function<String, String> response = findResponse(authorization == null ? null : authorization.substring("Bearer ".length()), url);
+		if (response == null) {
+			throw new CommandFailureException("localhost", url, "Not Found", 404);
+		}
+		String body = response.apply(url);
+		if (responseClass == String.class) {
+			return responseClass.cast(body);
+		}
+		return objectMapper.readValue(body, responseClass);
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.BrightSignBSNCloudCommand;
+
+/**
+ * MultipleNetworksTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class MultipleNetworksTest {
+	private static final String LOBBY = "Lobby";
+	private static final String KITCHEN = "Kitchen";
+	private static final String NETWORKS = "[{\"name\":\"Lobby\",\"subscription\":{\"level\":\"Enterprise\"}},{\"name\":\"Kitchen\",\"subscription\":{\"level\":\"Content\"}}]";
+
+	private final AtomicReference<String> kitchenPage = new AtomicReference<>();
+	private MockBrightSignBSNCloudCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new MockBrightSignBSNCloudCommunicator();
+		communicator.setNetworks(LOBBY + "," + KITCHEN);
+		communicator.setPollingInterval(20);
+		communicator.setDisplayGroupAggregates(true);
+		communicator.respond(BrightSignBSNCloudCommand.NETWORK_INFO, NETWORKS);
+		communicator.respond(LOBBY, BrightSignBSNCloudCommand.GET_ALL_DEVICES,
+				url -> MockBrightSignBSNCloudCommunicator.createPage(MockBrightSignBSNCloudCommunicator.createDevice(1, "Lobby player", "Normal", 10, "Screens")));
+		communicator.respond(KITCHEN, BrightSignBSNCloudCommand.GET_ALL_DEVICES, url -> kitchenPage.get());
+		kitchenPage.set(MockBrightSignBSNCloudCommunicator.createPage(MockBrightSignBSNCloudCommunicator.createDevice(1, "Kitchen player", "Error", 10, "Menus"),
+				MockBrightSignBSNCloudCommunicator.createDevice(2, "Kitchen backup", "Normal", 10, "Menus")));
+	}
+
+	@AfterEach
+	void tearDown() {
+		communicator.destroy();
+	}
+
+	/**
+	 * Devices and groups with the same id on two networks are kept apart, each network evicting only its own devices
+	 */
+	@Test
+	void testDevicesArePartitionedByNetwork() throws Exception {
+		communicator.init();
+		Map<String, AggregatedDevice> devices = waitForDevices(5);
+
+		Assert.assertEquals("Lobby player", devices.get("Lobby/1").getDeviceName());
+		Assert.assertEquals(LOBBY, devices.get("Lobby/1").getProperties().get("NetworkName"));
+		Assert.assertEquals("Kitchen player", devices.get("Kitchen/1").getDeviceName());
+		Assert.assertEquals(KITCHEN, devices.get("Kitchen/1").getProperties().get("NetworkName"));
+		Assert.assertEquals("Kitchen backup", devices.get("Kitchen/2").getDeviceName());
+		Assert.assertEquals("Screens", devices.get("group_Lobby/10").getDeviceName());
+		Assert.assertEquals("10", devices.get("group_Lobby/10").getProperties().get("GroupID"));
+		Assert.assertEquals("2", devices.get("group_Kitchen/10").getProperties().get("NumberOfDevices"));
+
+		kitchenPage.set(MockBrightSignBSNCloudCommunicator.createPage(MockBrightSignBSNCloudCommunicator.createDevice(1, "Kitchen player", "Error", 10, "Menus")));
+		devices = waitForDevices(4);
+
+		Assert.assertNull(devices.get("Kitchen/2"));
+		Assert.assertEquals("Kitchen player", devices.get("Kitchen/1").getDeviceName());
+		Assert.assertEquals("The walk of a network does not evict the same id on another network", "Lobby player", devices.get("Lobby/1").getDeviceName());
+	}
+
+	/**
+	 * The information of every network is retrieved in the context of that network and grouped under its name
+	 */
+	@Test
+	void testNetworkInformationOfEveryNetwork() throws Exception {
+		Map<String, String> statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+
+		Assert.assertEquals("Lobby", statistics.get("Network-Lobby#Name"));
+		Assert.assertEquals("Enterprise", statistics.get("Network-Lobby#SubscriptionLevel"));
+		Assert.assertEquals("Kitchen", statistics.get("Network-Kitchen#Name"));
+		Assert.assertEquals("Content", statistics.get("Network-Kitchen#SubscriptionLevel"));
+		Assert.assertNull(statistics.get("Name"));
+	}
+
+	/**
+	 * Waits until the published devices, including the group pseudo-devices, reach a number
+	 *
+	 * @param count expected number of published devices
+	 * @return published devices keyed by device id
+	 * @throws Exception if the devices cannot be retrieved
+	 */
+	private Map<String, AggregatedDevice> waitForDevices(int count) throws Exception {
+		Map<String, AggregatedDevice> devices = new HashMap<>();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (System.currentTimeMillis() < deadline) {
+			List<AggregatedDevice> published = communicator.retrieveMultipleStatistics();
+			devices.clear();
+			published.forEach(device -> devices.put(device.getDeviceId(), device));
+			if (devices.size() == count) {
+				break;
+			}
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(count, devices.size());
+		return devices;
+	}
+}
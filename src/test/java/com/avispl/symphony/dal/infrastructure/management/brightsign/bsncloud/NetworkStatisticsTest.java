@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.BrightSignBSNCloudCommand;
+import com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common.BrightSignBSNCloudConstant;
+
+/**
+ * NetworkStatisticsTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class NetworkStatisticsTest {
+	private MockBrightSignBSNCloudCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new MockBrightSignBSNCloudCommunicator();
+		communicator.setCircuitBreakerThreshold(1);
+		communicator.respond(BrightSignBSNCloudCommand.GET_NUMBER_OF_DEVICES, "3");
+	}
+
+	@AfterEach
+	void tearDown() {
+		communicator.destroy();
+	}
+
+	/**
+	 * Without any network information loaded, an open circuit still reports the circuit, polling and rate limiter statistics
+	 */
+	@Test
+	void testStatisticsWhileOpenWithoutNetworkInformation() throws Exception {
+		communicator.setReachable(false);
+
+		Map<String, String> statistics = getStatistics();
+
+		Assert.assertEquals("Open", statistics.get("CircuitBreaker#State"));
+		Assert.assertEquals(BrightSignBSNCloudConstant.NONE, statistics.get("NetworkInfo#DataAge(s)"));
+		Assert.assertNotNull(statistics.get("NetworkInfo#RefreshError"));
+		Assert.assertEquals(BrightSignBSNCloudConstant.NONE, statistics.get("Polling#DataAge(s)"));
+		Assert.assertNotNull(statistics.get("Polling#Interval(ms)"));
+		Assert.assertNotNull(statistics.get("RateLimiter#RejectedRequests"));
+		Assert.assertNull(statistics.get("Name"));
+	}
+
+	/**
+	 * Once the circuit opens, the last loaded network information is served with its age next to the state of the circuit
+	 */
+	@Test
+	void testStatisticsWhileOpenServeLastNetworkInformation() throws Exception {
+		Map<String, String> statistics = getStatistics();
+		Assert.assertEquals("Network", statistics.get("Name"));
+		Assert.assertEquals("3", statistics.get("NumberOfDevices"));
+		Assert.assertEquals("0", statistics.get("NetworkInfo#DataAge(s)"));
+		Assert.assertNull(statistics.get("NetworkInfo#RefreshError"));
+
+		communicator.setReachable(false);
+		communicator.setNetworkInfoTtl(0);
+		communicator.init();
+		long deadline = System.currentTimeMillis() + 5000;
+		do {
+			Thread.sleep(10);
+			statistics = getStatistics();
+		} while (statistics.get("NetworkInfo#RefreshError") == null && System.currentTimeMillis() < deadline);
+
+		Assert.assertEquals("Open", statistics.get("CircuitBreaker#State"));
+		Assert.assertNotNull(statistics.get("NetworkInfo#RefreshError"));
+		Assert.assertEquals("Network", statistics.get("Name"));
+		Assert.assertEquals("3", statistics.get("NumberOfDevices"));
+		Assert.assertNotEquals(BrightSignBSNCloudConstant.NONE, statistics.get("NetworkInfo#DataAge(s)"));
+		Assert.assertNotNull(statistics.get("Polling#ConsecutiveFailures"));
+	}
+
+	/**
+	 * Retrieves the aggregator statistics
+	 *
+	 * @return statistics of the aggregator
+	 * @throws Exception if the statistics cannot be retrieved
+	 */
+	private Map<String, String> getStatistics() throws Exception {
+		return ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+	}
+}
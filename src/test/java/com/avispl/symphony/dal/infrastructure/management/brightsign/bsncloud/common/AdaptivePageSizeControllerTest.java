@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AdaptivePageSizeControllerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class AdaptivePageSizeControllerTest {
+	private static final int MIN = 10;
+	private static final int MAX = 1000;
+	private static final long TARGET_LATENCY = 5000;
+	private static final long NO_BYTE_LIMIT = 0;
+
+	private final AdaptivePageSizeController controller = new AdaptivePageSizeController();
+
+	/**
+	 * The search starts from the initial page size, kept within the bounds
+	 */
+	@Test
+	void testInitialPageSizeWithinBounds() {
+		Assert.assertEquals(AdaptivePageSizeController.INITIAL_PAGE_SIZE, controller.getPageSize(MIN, MAX));
+		Assert.assertEquals(200, controller.getPageSize(200, MAX));
+		Assert.assertEquals(50, controller.getPageSize(MIN, 50));
+	}
+
+	/**
+	 * The page size grows while the throughput improves, then reverses with a smaller step once it drops
+	 */
+	@Test
+	void testHillClimbing() {
+		record(100, 100);
+		Assert.assertEquals(200, controller.getPageSize(MIN, MAX));
+
+		record(200, 100);
+		Assert.assertEquals(400, controller.getPageSize(MIN, MAX));
+
+		record(400, 800);
+		Assert.assertEquals("Throughput dropped, the size shrinks by a step of 1.5", 266, controller.getPageSize(MIN, MAX));
+	}
+
+	/**
+	 * A partial page, the last one of a walk, does not change the page size
+	 */
+	@Test
+	void testPartialPageIgnored() {
+		controller.getPageSize(MIN, MAX);
+		controller.recordPage(100, 40, 100, 0, MIN, MAX, TARGET_LATENCY, NO_BYTE_LIMIT);
+
+		Assert.assertEquals(100, controller.getPageSize(MIN, MAX));
+		Assert.assertEquals(100, controller.getLastLatency());
+	}
+
+	/**
+	 * A page slower than the target latency halves the page size
+	 */
+	@Test
+	void testSlowPageShrinks() {
+		controller.getPageSize(MIN, MAX);
+		controller.recordPage(100, 100, TARGET_LATENCY + 1, 0, MIN, MAX, TARGET_LATENCY, NO_BYTE_LIMIT);
+
+		Assert.assertEquals(50, controller.getPageSize(MIN, MAX));
+	}
+
+	/**
+	 * The next page is limited to the number of devices fitting in the payload limit
+	 */
+	@Test
+	void testPayloadLimit() {
+		controller.getPageSize(MIN, MAX);
+		controller.recordPage(100, 100, 100, 100 * 1000, MIN, MAX, TARGET_LATENCY, 30 * 1000);
+
+		Assert.assertEquals(30, controller.getPageSize(MIN, MAX));
+	}
+
+	/**
+	 * A failed page halves the page size, never below the minimum
+	 */
+	@Test
+	void testErrorHalvesPageSize() {
+		controller.getPageSize(MIN, MAX);
+		controller.recordError(MIN, MAX);
+		Assert.assertEquals(50, controller.getPageSize(MIN, MAX));
+
+		for (int i = 0; i < 10; i++) {
+			controller.recordError(MIN, MAX);
+		}
+		Assert.assertEquals(MIN, controller.getPageSize(MIN, MAX));
+		Assert.assertEquals(11, controller.getReductions());
+
+		controller.reset();
+		Assert.assertEquals(AdaptivePageSizeController.INITIAL_PAGE_SIZE, controller.getPageSize(MIN, MAX));
+		Assert.assertEquals(0, controller.getReductions());
+	}
+
+	/**
+	 * Growth stops at the maximum page size
+	 */
+	@Test
+	void testGrowthBoundedByMaximum() {
+		controller.getPageSize(MIN, 150);
+		controller.recordPage(100, 100, 100, 0, MIN, 150, TARGET_LATENCY, NO_BYTE_LIMIT);
+
+		Assert.assertEquals(150, controller.getPageSize(MIN, 150));
+	}
+
+	/**
+	 * Records a full page of the current size
+	 *
+	 * @param expectedPageSize expected current page size
+	 * @param latency response time of the page in milliseconds
+	 */
+	private void record(int expectedPageSize, long latency) {
+		int pageSize = controller.getPageSize(MIN, MAX);
+		Assert.assertEquals(expectedPageSize, pageSize);
+		controller.recordPage(pageSize, pageSize, latency, 0, MIN, MAX, TARGET_LATENCY, NO_BYTE_LIMIT);
+	}
+}
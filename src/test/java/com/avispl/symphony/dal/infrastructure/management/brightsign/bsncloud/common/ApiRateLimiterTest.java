@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * ApiRateLimiterTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class ApiRateLimiterTest {
+	private static final double NO_REFILL = 0.001;
+
+	private final ApiRateLimiter rateLimiter = new ApiRateLimiter();
+
+	/**
+	 * The bucket starts full with the burst size and is not refilled faster than the rate
+	 */
+	@Test
+	void testBurstThenEmpty() {
+		Assert.assertTrue(rateLimiter.tryAcquire(NO_REFILL, 2));
+		Assert.assertTrue(rateLimiter.tryAcquire(NO_REFILL, 2));
+		Assert.assertFalse(rateLimiter.tryAcquire(NO_REFILL, 2));
+	}
+
+	/**
+	 * Once the bucket is empty, a request waits for the next token refilled at the configured rate
+	 */
+	@Test
+	void testRefillAfterWait() throws Exception {
+		Assert.assertTrue(rateLimiter.tryAcquire(20, 1));
+
+		long waited = rateLimiter.acquire(RequestPriority.POLLING, 20, 1, 5000);
+
+		Assert.assertTrue("A token is refilled every 50 ms, waited " + waited, waited >= 25 && waited < 5000);
+		Assert.assertEquals(1, rateLimiter.getThrottledWaits());
+	}
+
+	/**
+	 * A request is rejected when no token is refilled within its maximum wait
+	 */
+	@Test
+	void testRejectedAfterMaxWait() throws Exception {
+		Assert.assertTrue(rateLimiter.tryAcquire(NO_REFILL, 1));
+		try {
+			rateLimiter.acquire(RequestPriority.POLLING, NO_REFILL, 1, 20);
+			Assert.fail("The request should be rejected");
+		} catch (ResourceNotReachableException e) {
+			Assert.assertEquals(1, rateLimiter.getRejections());
+		}
+	}
+
+	/**
+	 * A 429 response blocks requests even when tokens are left
+	 */
+	@Test
+	void testTooManyRequestsBlocks() throws Exception {
+		rateLimiter.onTooManyRequests(100);
+
+		Assert.assertFalse(rateLimiter.tryAcquire(1000, 10));
+		long waited = rateLimiter.acquire(RequestPriority.CONTROL, 1000, 10, 5000);
+		Assert.assertTrue("Requests are blocked for the Retry-After delay, waited " + waited, waited >= 50);
+		Assert.assertEquals(1, rateLimiter.getTooManyRequestsResponses());
+	}
+
+	/**
+	 * A control request that starts waiting after a polling request takes the next token first
+	 */
+	@Test
+	void testHigherPriorityTakesTokenFirst() throws Exception {
+		Assert.assertTrue(rateLimiter.tryAcquire(4, 1));
+		List<RequestPriority> order = new CopyOnWriteArrayList<>();
+		Thread polling = startWaiter(RequestPriority.POLLING, order);
+		Thread.sleep(50);
+		Thread control = startWaiter(RequestPriority.CONTROL, order);
+		polling.join(5000);
+		control.join(5000);
+
+		Assert.assertEquals(2, order.size());
+		Assert.assertEquals(RequestPriority.CONTROL, order.get(0));
+		Assert.assertEquals(RequestPriority.POLLING, order.get(1));
+	}
+
+	/**
+	 * Starts a thread waiting for a token, a new token is refilled every 250 ms
+	 *
+	 * @param priority priority of the request
+	 * @param order priorities in the order the tokens were taken
+	 * @return started thread
+	 */
+	private Thread startWaiter(RequestPriority priority, List<RequestPriority> order) {
+		Thread thread = new Thread(() -> {
+			try {
+				rateLimiter.acquire(priority, 4, 1, 5000);
+				order.add(priority);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		thread.start();
+		return thread;
+	}
+}
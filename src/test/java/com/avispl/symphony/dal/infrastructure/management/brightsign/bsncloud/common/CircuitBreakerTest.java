@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CircuitBreakerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class CircuitBreakerTest {
+	private static final int THRESHOLD = 3;
+	private static final long NEVER = Long.MAX_VALUE;
+	private static final long ELAPSED = 0;
+
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+	/**
+	 * The circuit opens after the threshold of consecutive failures and rejects requests while open
+	 */
+	@Test
+	void testOpensAfterConsecutiveFailures() {
+		circuitBreaker.recordFailure(THRESHOLD);
+		circuitBreaker.recordFailure(THRESHOLD);
+		circuitBreaker.recordSuccess();
+		circuitBreaker.recordFailure(THRESHOLD);
+		circuitBreaker.recordFailure(THRESHOLD);
+		Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+		circuitBreaker.recordFailure(THRESHOLD);
+		Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		Assert.assertFalse(circuitBreaker.allowRequest(NEVER));
+		Assert.assertFalse(circuitBreaker.allowRequest(NEVER));
+		Assert.assertEquals(2, circuitBreaker.getShortCircuitedRequests());
+	}
+
+	/**
+	 * Once the open duration elapses, a single trial request is allowed until it completes
+	 */
+	@Test
+	void testHalfOpenAllowsSingleTrial() {
+		open();
+
+		Assert.assertTrue(circuitBreaker.allowRequest(ELAPSED));
+		Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		Assert.assertFalse(circuitBreaker.allowRequest(ELAPSED));
+		Assert.assertFalse(circuitBreaker.allowRequest(ELAPSED));
+
+		circuitBreaker.recordSuccess();
+		Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		Assert.assertTrue(circuitBreaker.allowRequest(ELAPSED));
+		Assert.assertTrue(circuitBreaker.allowRequest(ELAPSED));
+	}
+
+	/**
+	 * A failed trial opens the circuit again
+	 */
+	@Test
+	void testFailedTrialReopens() {
+		open();
+		Assert.assertTrue(circuitBreaker.allowRequest(ELAPSED));
+
+		circuitBreaker.recordFailure(THRESHOLD);
+
+		Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		Assert.assertFalse(circuitBreaker.allowRequest(NEVER));
+	}
+
+	/**
+	 * A released trial that was never sent lets the next request be the trial
+	 */
+	@Test
+	void testReleasedTrialAllowsNextRequest() {
+		open();
+		Assert.assertTrue(circuitBreaker.allowRequest(ELAPSED));
+		Assert.assertFalse(circuitBreaker.allowRequest(ELAPSED));
+
+		circuitBreaker.releaseRequest();
+
+		Assert.assertTrue(circuitBreaker.allowRequest(ELAPSED));
+		Assert.assertFalse(circuitBreaker.allowRequest(ELAPSED));
+	}
+
+	/**
+	 * Opens the circuit
+	 */
+	private void open() {
+		for (int i = 0; i < THRESHOLD; i++) {
+			circuitBreaker.recordFailure(THRESHOLD);
+		}
+		Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+	}
+}
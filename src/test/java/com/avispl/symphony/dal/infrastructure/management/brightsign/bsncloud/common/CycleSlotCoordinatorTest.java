@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CycleSlotCoordinatorTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class CycleSlotCoordinatorTest {
+	private static final long INTERVAL = 1_000_000;
+
+	private final List<Integer> slots = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		slots.forEach(CycleSlotCoordinator::release);
+	}
+
+	/**
+	 * Slots are leased from the lowest free one, and a released slot is leased again first
+	 */
+	@Test
+	void testLowestFreeSlotIsLeased() {
+		int first = acquire();
+		int second = acquire();
+		int third = acquire();
+		Assert.assertEquals(first + 1, second);
+		Assert.assertEquals(second + 1, third);
+
+		CycleSlotCoordinator.release(second);
+		slots.remove(Integer.valueOf(second));
+
+		Assert.assertEquals(second, acquire());
+	}
+
+	/**
+	 * Phases are the bit-reversed fractions of the slots, so any number of slots stays evenly spread
+	 */
+	@Test
+	void testBitReversedPhases() {
+		Assert.assertEquals(0, CycleSlotCoordinator.getPhase(0), 0);
+		Assert.assertEquals(0.5, CycleSlotCoordinator.getPhase(1), 0);
+		Assert.assertEquals(0.25, CycleSlotCoordinator.getPhase(2), 0);
+		Assert.assertEquals(0.75, CycleSlotCoordinator.getPhase(3), 0);
+		Assert.assertEquals(0.125, CycleSlotCoordinator.getPhase(4), 0);
+		Assert.assertEquals(0, CycleSlotCoordinator.getPhase(CycleSlotCoordinator.NO_SLOT), 0);
+	}
+
+	/**
+	 * Start delays of leased slots are apart by their phase difference within the interval
+	 */
+	@Test
+	void testStartDelaysFollowPhases() {
+		int first = acquire();
+		int second = acquire();
+		long firstDelay = CycleSlotCoordinator.getStartDelay(first, INTERVAL);
+		long secondDelay = CycleSlotCoordinator.getStartDelay(second, INTERVAL);
+
+		double expected = (CycleSlotCoordinator.getPhase(second) - CycleSlotCoordinator.getPhase(first)) * INTERVAL;
+		Assert.assertEquals(Math.floorMod((long) expected, INTERVAL), Math.floorMod(secondDelay - firstDelay, INTERVAL), 100);
+		Assert.assertTrue(firstDelay >= 0 && firstDelay < INTERVAL);
+		Assert.assertTrue(secondDelay >= 0 && secondDelay < INTERVAL);
+	}
+
+	/**
+	 * Without an interval cycles start right away, without a slot they start after a random delay within the interval
+	 */
+	@Test
+	void testStartDelayWithoutSlotOrInterval() {
+		Assert.assertEquals(0, CycleSlotCoordinator.getStartDelay(acquire(), 0));
+		for (int i = 0; i < 100; i++) {
+			long delay = CycleSlotCoordinator.getStartDelay(CycleSlotCoordinator.NO_SLOT, 1000);
+			Assert.assertTrue(delay >= 0 && delay < 1000);
+		}
+	}
+
+	/**
+	 * Leases a slot released after the test
+	 *
+	 * @return leased slot
+	 */
+	private int acquire() {
+		int slot = CycleSlotCoordinator.acquire();
+		Assert.assertNotEquals(CycleSlotCoordinator.NO_SLOT, slot);
+		slots.add(slot);
+		return slot;
+	}
+}
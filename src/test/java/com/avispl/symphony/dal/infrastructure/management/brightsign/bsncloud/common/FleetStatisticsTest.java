@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * FleetStatisticsTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class FleetStatisticsTest {
+	private final FleetStatistics fleetStatistics = new FleetStatistics();
+
+	/**
+	 * Devices are summarized per group: device count, health and firmware counters and minimum free storage
+	 */
+	@Test
+	void testGroupSummaries() {
+		fleetStatistics.update(createDevice("1", "10", "Lobby", "Normal", "9.0.1", 1000, 400));
+		fleetStatistics.update(createDevice("2", "10", "Lobby", "Error", "9.0.1", 1000, 100));
+		fleetStatistics.update(createDevice("3", "20", "Kitchen", "Normal", "8.5.0", 0, 0));
+
+		List<FleetStatistics.GroupSummary> summaries = fleetStatistics.getGroupSummaries();
+		Assert.assertEquals(2, summaries.size());
+
+		FleetStatistics.GroupSummary lobby = summaries.get(0);
+		Assert.assertEquals("10", lobby.getGroupId());
+		Assert.assertEquals("Lobby", lobby.getGroupName());
+		Assert.assertEquals(2, lobby.getDeviceCount());
+		Assert.assertEquals(Integer.valueOf(1), lobby.getHealthCounts().get("Healthy"));
+		Assert.assertEquals(Integer.valueOf(1), lobby.getHealthCounts().get("Inactive"));
+		Assert.assertEquals(Integer.valueOf(0), lobby.getHealthCounts().get("Idle"));
+		Assert.assertEquals(Integer.valueOf(2), lobby.getFirmwareCounts().get("9.0.1"));
+		Assert.assertEquals(Long.valueOf(100), lobby.getMinimumFreeStorage());
+
+		FleetStatistics.GroupSummary kitchen = summaries.get(1);
+		Assert.assertEquals("20", kitchen.getGroupId());
+		Assert.assertEquals(1, kitchen.getDeviceCount());
+		Assert.assertNull("Devices without storage do not report a minimum", kitchen.getMinimumFreeStorage());
+	}
+
+	/**
+	 * An updated device replaces its previous contribution, a device moved to another group leaves the old one
+	 */
+	@Test
+	void testUpdateReplacesContribution() {
+		fleetStatistics.update(createDevice("1", "10", "Lobby", "Normal", "9.0.1", 1000, 400));
+		fleetStatistics.update(createDevice("2", "10", "Lobby", "Normal", "9.0.1", 1000, 100));
+
+		fleetStatistics.update(createDevice("2", "10", "Lobby", "Warning", "9.0.2", 1000, 500));
+		FleetStatistics.GroupSummary lobby = fleetStatistics.getGroupSummaries().get(0);
+		Assert.assertEquals(2, lobby.getDeviceCount());
+		Assert.assertEquals(Integer.valueOf(1), lobby.getHealthCounts().get("Idle"));
+		Assert.assertEquals(Integer.valueOf(1), lobby.getFirmwareCounts().get("9.0.2"));
+		Assert.assertEquals(Long.valueOf(400), lobby.getMinimumFreeStorage());
+
+		fleetStatistics.update(createDevice("2", "20", "Kitchen", "Warning", "9.0.2", 1000, 500));
+		List<FleetStatistics.GroupSummary> summaries = fleetStatistics.getGroupSummaries();
+		Assert.assertEquals(1, summaries.get(0).getDeviceCount());
+		Assert.assertEquals(1, summaries.get(1).getDeviceCount());
+		Assert.assertEquals(2, fleetStatistics.getDeviceCount());
+	}
+
+	/**
+	 * A group without devices is dropped, and returned summaries are copies
+	 */
+	@Test
+	void testRemovedDevices() {
+		fleetStatistics.update(createDevice("1", "10", "Lobby", "Normal", "9.0.1", 1000, 400));
+		FleetStatistics.GroupSummary before = fleetStatistics.getGroupSummaries().get(0);
+
+		fleetStatistics.remove("1");
+
+		Assert.assertTrue(fleetStatistics.getGroupSummaries().isEmpty());
+		Assert.assertEquals(1, before.getDeviceCount());
+		Assert.assertEquals(0, fleetStatistics.getTotalStorage());
+	}
+
+	/**
+	 * Creates a device of a group
+	 *
+	 * @param deviceId id of the device
+	 * @param groupId id of the group
+	 * @param groupName name of the group
+	 * @param health health status value
+	 * @param firmware BrightSignOS version
+	 * @param totalStorage total size of the SD storage, 0 to report no storage
+	 * @param freeStorage free size of the SD storage
+	 * @return created device
+	 */
+	private AggregatedDevice createDevice(String deviceId, String groupId, String groupName, String health, String firmware, long totalStorage, long freeStorage) {
+		Map<String, String> properties = new HashMap<>();
+		properties.put(AggregatedInformation.ID.getName(), groupId);
+		properties.put(AggregatedInformation.NAME.getName(), groupName);
+		properties.put(AggregatedInformation.DEVICE_STATUS.getName(), health);
+		properties.put(AggregatedInformation.FIRMWARE_VERSION.getName(), firmware);
+		if (totalStorage > 0) {
+			properties.put(AggregatedInformation.STORAGE.getName(), String.format(
+					"[{\"interface\":\"SD\",\"stats\":{\"sizeTotal\":%d,\"sizeFree\":%d}},{\"interface\":\"Tmp\",\"stats\":{\"sizeTotal\":50,\"sizeFree\":1}}]",
+					totalStorage, freeStorage));
+		}
+		AggregatedDevice device = new AggregatedDevice();
+		device.setDeviceId(deviceId);
+		device.setDeviceModel("XT1144");
+		device.setProperties(properties);
+		return device;
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LoginInfoTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class LoginInfoTest {
+	private static final long HOUR = 60 * 60 * 1000L;
+
+	private final LoginInfo loginInfo = new LoginInfo();
+
+	/**
+	 * The token, its lifetime and the refresh token are published together
+	 */
+	@Test
+	void testStateIsPublishedAsWhole() {
+		Assert.assertSame(TokenState.EMPTY, loginInfo.getState());
+		Assert.assertTrue(loginInfo.getState().isTimeout());
+
+		long now = System.currentTimeMillis();
+		loginInfo.setState(new TokenState("token", "refresh", now, HOUR));
+
+		TokenState state = loginInfo.getState();
+		Assert.assertEquals("token", state.getToken());
+		Assert.assertEquals("refresh", state.getRefreshToken());
+		Assert.assertEquals(now + HOUR, state.getExpiryDateTime());
+		Assert.assertFalse(state.isTimeout());
+		Assert.assertEquals("Refresh is due a fifth of the lifetime ahead", now + HOUR - HOUR / 5, state.getRefreshDateTime(0));
+	}
+
+	/**
+	 * Dropping a token read earlier leaves a newer token published meanwhile in place
+	 */
+	@Test
+	void testClearKeepsNewerTokens() {
+		long now = System.currentTimeMillis();
+		loginInfo.setState(new TokenState("first", "first-refresh", now, HOUR));
+		loginInfo.setState(new TokenState("second", "second-refresh", now, HOUR));
+
+		loginInfo.clearRefreshToken("first-refresh");
+		loginInfo.clearToken("first");
+		Assert.assertEquals("second", loginInfo.getState().getToken());
+		Assert.assertEquals("second-refresh", loginInfo.getState().getRefreshToken());
+
+		loginInfo.clearRefreshToken("second-refresh");
+		Assert.assertNull(loginInfo.getState().getRefreshToken());
+		Assert.assertEquals("second", loginInfo.getState().getToken());
+
+		loginInfo.clearToken("second");
+		Assert.assertNull(loginInfo.getState().getToken());
+	}
+}
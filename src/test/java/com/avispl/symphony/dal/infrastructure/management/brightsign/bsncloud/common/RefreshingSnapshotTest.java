@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RefreshingSnapshotTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class RefreshingSnapshotTest {
+	private final Deque<Runnable> queuedRefreshes = new ArrayDeque<>();
+	private final AtomicReference<String> source = new AtomicReference<>("first");
+
+	private final RefreshingSnapshot<String> snapshot = new RefreshingSnapshot<>(() -> {
+		String value = source.get();
+		if (value == null) {
+			throw new IllegalStateException("Source is not reachable");
+		}
+		return value;
+	});
+
+	/**
+	 * The first read loads the value on the calling thread, stale reads serve it while a refresh is queued
+	 */
+	@Test
+	void testFirstReadLoadsAndStaleReadQueuesRefresh() throws Exception {
+		Assert.assertEquals("first", snapshot.get(queuedRefreshes::add, false));
+		Assert.assertTrue(queuedRefreshes.isEmpty());
+
+		source.set("second");
+		Assert.assertEquals("first", snapshot.get(queuedRefreshes::add, true));
+		Assert.assertEquals(1, queuedRefreshes.size());
+		Assert.assertEquals("first", snapshot.get(queuedRefreshes::add, true));
+		Assert.assertEquals(1, queuedRefreshes.size());
+
+		queuedRefreshes.poll().run();
+		Assert.assertEquals("second", snapshot.get(queuedRefreshes::add, false));
+	}
+
+	/**
+	 * After a failed refresh the last loaded value is served with its age, until a refresh queued by a later read succeeds
+	 */
+	@Test
+	void testFailedRefreshServesLastValue() throws Exception {
+		snapshot.get(queuedRefreshes::add, false);
+		long loaded = snapshot.getTimestamp();
+		Assert.assertTrue(loaded > 0);
+
+		source.set(null);
+		snapshot.get(queuedRefreshes::add, true);
+		queuedRefreshes.poll().run();
+		Assert.assertEquals("Source is not reachable", snapshot.getError().getMessage());
+
+		Assert.assertEquals("first", snapshot.get(queuedRefreshes::add, false));
+		Assert.assertEquals("The age of the served value is kept", loaded, snapshot.getTimestamp());
+		Assert.assertEquals("Serving the last value queues a new refresh", 1, queuedRefreshes.size());
+
+		source.set("recovered");
+		queuedRefreshes.poll().run();
+		Assert.assertNull(snapshot.getError());
+		Assert.assertEquals("recovered", snapshot.get(queuedRefreshes::add, false));
+	}
+
+	/**
+	 * A failed first load is thrown to the caller and retried by the next read
+	 */
+	@Test
+	void testFailedFirstLoadIsRetried() throws Exception {
+		source.set(null);
+		try {
+			snapshot.get(queuedRefreshes::add, false);
+			Assert.fail("The failed load should be thrown");
+		} catch (IllegalStateException e) {
+			Assert.assertNull(snapshot.getValue());
+			Assert.assertEquals(0, snapshot.getTimestamp());
+		}
+		source.set("first");
+		Assert.assertEquals("first", snapshot.get(queuedRefreshes::add, false));
+	}
+}
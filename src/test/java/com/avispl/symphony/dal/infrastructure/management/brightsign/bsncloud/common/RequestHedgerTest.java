@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.client.methods.HttpGet;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RequestHedgerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class RequestHedgerTest {
+	private static final String ENDPOINT = "2022/06/REST/Devices";
+	private static final double PERCENTILE = 90;
+	private static final double FULL_BUDGET = 100;
+	private static final int MIN_SAMPLES = 20;
+	/**
+	 * Latency of the warm up when the duplicate is expected, so the original attempt starts first and takes the first role of the test
+	 */
+	private static final long HEAD_START = 20;
+
+	private final RequestHedger requestHedger = new RequestHedger();
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final AtomicInteger attempts = new AtomicInteger();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * A request completing before the latency percentile is not duplicated
+	 */
+	@Test
+	void testPrimaryWinsBeforePercentile() throws Exception {
+		warmUp(50, FULL_BUDGET);
+
+		String response = requestHedger.execute(executor, ENDPOINT, () -> {
+			attempts.incrementAndGet();
+			return "primary";
+		}, PERCENTILE, FULL_BUDGET, () -> true);
+
+		Assert.assertEquals("primary", response);
+		Assert.assertEquals(1, attempts.get());
+		Assert.assertEquals(0, requestHedger.getHedgedRequests());
+	}
+
+	/**
+	 * A duplicate responding first wins, and the HTTP request of the original attempt is aborted
+	 */
+	@Test
+	void testHedgeWinsAndAbortsPrimary() throws Exception {
+		warmUp(HEAD_START, FULL_BUDGET);
+		HttpGet primaryRequest = new HttpGet("https://api.bsn.cloud/" + ENDPOINT);
+		CountDownLatch release = new CountDownLatch(1);
+
+		String response = requestHedger.execute(executor, ENDPOINT, () -> {
+			if (attempts.incrementAndGet() == 1) {
+				RequestHedger.track(primaryRequest);
+				release.await(5, TimeUnit.SECONDS);
+				return "primary";
+			}
+			return "hedge";
+		}, PERCENTILE, FULL_BUDGET, () -> true);
+		release.countDown();
+
+		Assert.assertEquals("hedge", response);
+		Assert.assertTrue(primaryRequest.isAborted());
+		Assert.assertEquals(1, requestHedger.getHedgedRequests());
+		Assert.assertEquals(1, requestHedger.getHedgeWins());
+	}
+
+	/**
+	 * A failed original attempt falls back to the response of the duplicate
+	 */
+	@Test
+	void testPrimaryFailsAndHedgeSucceeds() throws Exception {
+		warmUp(HEAD_START, FULL_BUDGET);
+		CountDownLatch hedgeStarted = new CountDownLatch(1);
+
+		String response = requestHedger.execute(executor, ENDPOINT, () -> {
+			if (attempts.incrementAndGet() == 1) {
+				hedgeStarted.await(5, TimeUnit.SECONDS);
+				throw new IOException("Connection reset");
+			}
+			hedgeStarted.countDown();
+			Thread.sleep(100);
+			return "hedge";
+		}, PERCENTILE, FULL_BUDGET, () -> true);
+
+		Assert.assertEquals("hedge", response);
+		Assert.assertEquals(2, attempts.get());
+		Assert.assertEquals(1, requestHedger.getHedgeWins());
+	}
+
+	/**
+	 * A slow request is not duplicated once the budget is spent or the duplicate is not permitted
+	 */
+	@Test
+	void testNoHedgeWithoutBudget() throws Exception {
+		warmUp(0, 0);
+
+		Assert.assertEquals("primary", requestHedger.execute(executor, ENDPOINT, this::slowRequest, PERCENTILE, 0, () -> true));
+		Assert.assertEquals(1, attempts.get());
+
+		warmUp(0, FULL_BUDGET);
+		attempts.set(0);
+		Assert.assertEquals("primary", requestHedger.execute(executor, ENDPOINT, this::slowRequest, PERCENTILE, FULL_BUDGET, () -> false));
+		Assert.assertEquals(1, attempts.get());
+		Assert.assertEquals(0, requestHedger.getHedgedRequests());
+	}
+
+	/**
+	 * Requests are not duplicated until enough latencies of the endpoint were observed
+	 */
+	@Test
+	void testNoHedgeBeforeMinimumSamples() throws Exception {
+		for (int i = 0; i < MIN_SAMPLES - 1; i++) {
+			requestHedger.execute(executor, ENDPOINT, () -> "fast", PERCENTILE, FULL_BUDGET, () -> true);
+		}
+		Thread caller = Thread.currentThread();
+
+		String response = requestHedger.execute(executor, ENDPOINT, () -> {
+			Assert.assertSame("Without enough samples the request runs on the calling thread", caller, Thread.currentThread());
+			return slowRequest();
+		}, PERCENTILE, FULL_BUDGET, () -> true);
+
+		Assert.assertEquals("primary", response);
+		Assert.assertEquals(1, attempts.get());
+		Assert.assertEquals(0, requestHedger.getHedgedRequests());
+	}
+
+	/**
+	 * Records the minimum number of latencies of the endpoint, earning the budget of as many requests
+	 *
+	 * @param latency latency of the requests in milliseconds
+	 * @param budget share of requests that may be duplicated, in percent
+	 * @throws Exception if a request fails
+	 */
+	private void warmUp(long latency, double budget) throws Exception {
+		for (int i = 0; i < MIN_SAMPLES; i++) {
+			requestHedger.execute(null, ENDPOINT, () -> {
+				Thread.sleep(latency);
+				return "warm";
+			}, PERCENTILE, budget, () -> true);
+		}
+	}
+
+	/**
+	 * Request slower than the latencies of the warm up
+	 *
+	 * @return response of the request
+	 * @throws InterruptedException if the request is cancelled
+	 */
+	private String slowRequest() throws InterruptedException {
+		attempts.incrementAndGet();
+		Thread.sleep(50);
+		return "primary";
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ShardAssignerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class ShardAssignerTest {
+	private static final int KEYS = 10000;
+
+	/**
+	 * The same key is always assigned to the same shard, and exactly one shard owns it
+	 */
+	@Test
+	void testAssignmentIsStable() {
+		for (int i = 0; i < KEYS; i++) {
+			String key = "serial-" + i;
+			int shard = ShardAssigner.getShard(key, 5);
+			Assert.assertTrue(shard >= 0 && shard < 5);
+			Assert.assertEquals(shard, ShardAssigner.getShard(key, 5));
+			int owners = 0;
+			for (int index = 0; index < 5; index++) {
+				owners += ShardAssigner.owns(key, index, 5) ? 1 : 0;
+			}
+			Assert.assertEquals(1, owners);
+		}
+	}
+
+	/**
+	 * Sharding is disabled for a single shard or less
+	 */
+	@Test
+	void testSingleShardOwnsEveryKey() {
+		Assert.assertTrue(ShardAssigner.owns("serial", 0, 1));
+		Assert.assertTrue(ShardAssigner.owns("serial", 3, 0));
+		Assert.assertEquals(ShardAssigner.getShard("", 4), ShardAssigner.getShard(null, 4));
+	}
+
+	/**
+	 * Adding a shard only moves keys to the new shard, about 1 / (n + 1) of them
+	 */
+	@Test
+	void testAddingShardMovesMinimalKeys() {
+		for (int shardCount = 1; shardCount < 8; shardCount++) {
+			int moved = 0;
+			for (int i = 0; i < KEYS; i++) {
+				String key = "serial-" + i;
+				int before = ShardAssigner.getShard(key, shardCount);
+				int after = ShardAssigner.getShard(key, shardCount + 1);
+				if (before != after) {
+					Assert.assertEquals("Moved keys go to the new shard", shardCount, after);
+					moved++;
+				}
+			}
+			double expected = (double) KEYS / (shardCount + 1);
+			Assert.assertEquals(expected, moved, expected * 0.15);
+		}
+	}
+
+	/**
+	 * Keys are spread evenly across the shards
+	 */
+	@Test
+	void testKeysAreBalanced() {
+		int[] counts = new int[4];
+		for (int i = 0; i < KEYS; i++) {
+			counts[ShardAssigner.getShard("serial-" + i, counts.length)]++;
+		}
+		for (int count : counts) {
+			Assert.assertEquals(KEYS / counts.length, count, KEYS / counts.length * 0.1);
+		}
+	}
+}
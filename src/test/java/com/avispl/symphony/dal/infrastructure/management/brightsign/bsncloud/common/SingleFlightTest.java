@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SingleFlightTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class SingleFlightTest {
+	private static final int FOLLOWERS = 4;
+
+	private final SingleFlight singleFlight = new SingleFlight();
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final AtomicInteger executions = new AtomicInteger();
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Callers arriving while a call is in flight share its result, and the call runs once
+	 */
+	@Test
+	void testConcurrentCallsShareResult() throws Exception {
+		List<Future<String>> results = startCalls(() -> "response");
+		release.countDown();
+
+		for (Future<String> result : results) {
+			Assert.assertEquals("response", result.get(5, TimeUnit.SECONDS));
+		}
+		Assert.assertEquals(1, executions.get());
+		Assert.assertEquals(FOLLOWERS, singleFlight.getCoalescedCalls());
+	}
+
+	/**
+	 * Callers arriving while a call is in flight receive its exception
+	 */
+	@Test
+	void testConcurrentCallsShareException() throws Exception {
+		List<Future<String>> results = startCalls(() -> {
+			throw new IllegalStateException("Request failed");
+		});
+		release.countDown();
+
+		for (Future<String> result : results) {
+			try {
+				result.get(5, TimeUnit.SECONDS);
+				Assert.fail("The exception of the call should be thrown");
+			} catch (ExecutionException e) {
+				Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+				Assert.assertEquals("Request failed", e.getCause().getMessage());
+			}
+		}
+		Assert.assertEquals(1, executions.get());
+	}
+
+	/**
+	 * A completed call is not cached, the next call runs again
+	 */
+	@Test
+	void testCompletedCallIsNotCached() throws Exception {
+		Assert.assertEquals("first", singleFlight.execute("key", () -> "first"));
+		Assert.assertEquals("second", singleFlight.execute("key", () -> "second"));
+		Assert.assertEquals(0, singleFlight.getCoalescedCalls());
+	}
+
+	/**
+	 * Calls with different keys are not coalesced
+	 */
+	@Test
+	void testDifferentKeysRunSeparately() throws Exception {
+		Future<String> first = executor.submit(() -> singleFlight.execute("first", () -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return "first";
+		}));
+		Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		Assert.assertEquals("second", singleFlight.execute("second", () -> "second"));
+		release.countDown();
+		Assert.assertEquals("first", first.get(5, TimeUnit.SECONDS));
+		Assert.assertEquals(0, singleFlight.getCoalescedCalls());
+	}
+
+	/**
+	 * Starts a call blocked until {@link #release} is counted down, then followers with the same key,
+	 * and waits until every follower joined the call in flight
+	 *
+	 * @param result produces the result of the call once released
+	 * @return results of the leader and the followers
+	 * @throws Exception if the call does not start
+	 */
+	private List<Future<String>> startCalls(Callable<String> result) throws Exception {
+		List<Future<String>> results = new ArrayList<>();
+		results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+			executions.incrementAndGet();
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return result.call();
+		})));
+		Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+		for (int i = 0; i < FOLLOWERS; i++) {
+			results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+				executions.incrementAndGet();
+				return "unexpected";
+			})));
+		}
+		long deadline = System.currentTimeMillis() + 5000;
+		while (singleFlight.getCoalescedCalls() < FOLLOWERS && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		return results;
+	}
+}
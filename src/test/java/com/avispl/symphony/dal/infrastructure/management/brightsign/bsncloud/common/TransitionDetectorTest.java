@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.brightsign.bsncloud.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * TransitionDetectorTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class TransitionDetectorTest {
+	private static final long NOW = 1_000_000_000L;
+
+	private final TransitionDetector detector = new TransitionDetector(4, 8);
+
+	/**
+	 * An uptime going down is recorded as a reboot that happened uptime seconds ago
+	 */
+	@Test
+	void testUptimeRegressionIsReboot() {
+		boolean detected = detector.detect(createDevice("1", "Normal", "1.02:00:00"), createDevice("1", "Normal", "00:05:00"), NOW);
+
+		Assert.assertTrue(detected);
+		DeviceTransition reboot = detector.getLatest("1", DeviceTransition.Type.REBOOT);
+		Assert.assertNotNull(reboot);
+		Assert.assertEquals(NOW - 300 * 1000, reboot.getTimestamp());
+		Assert.assertEquals("93600", reboot.getPreviousValue());
+		Assert.assertEquals("300", reboot.getCurrentValue());
+		Assert.assertEquals(1, detector.countFleet(DeviceTransition.Type.REBOOT, 0));
+		Assert.assertNull(detector.getLatest("1", DeviceTransition.Type.HEALTH_CHANGE));
+	}
+
+	/**
+	 * A growing, missing or unparsable uptime is not a reboot
+	 */
+	@Test
+	void testNoRebootWithoutRegression() {
+		Assert.assertFalse(detector.detect(createDevice("1", "Normal", "00:05:00"), createDevice("1", "Normal", "00:06:00"), NOW));
+		Assert.assertFalse(detector.detect(createDevice("1", "Normal", "00:06:00"), createDevice("1", "Normal", null), NOW));
+		Assert.assertFalse(detector.detect(createDevice("1", "Normal", "00:06:00"), createDevice("1", "Normal", "unknown"), NOW));
+		Assert.assertFalse(detector.detect(null, createDevice("1", "Normal", "00:01:00"), NOW));
+		Assert.assertEquals(0, detector.count("1", DeviceTransition.Type.REBOOT, 0));
+	}
+
+	/**
+	 * A health change is recorded with the status names
+	 */
+	@Test
+	void testHealthChange() {
+		Assert.assertTrue(detector.detect(createDevice("1", "Normal", "00:05:00"), createDevice("1", "Error", "00:06:00"), NOW));
+
+		DeviceTransition change = detector.getLatest("1", DeviceTransition.Type.HEALTH_CHANGE);
+		Assert.assertEquals("Healthy", change.getPreviousValue());
+		Assert.assertEquals("Inactive", change.getCurrentValue());
+		Assert.assertEquals(NOW, change.getTimestamp());
+	}
+
+	/**
+	 * Uptime values are parsed with and without days and fractions of seconds
+	 */
+	@Test
+	void testParseUptime() {
+		Assert.assertEquals(3723, TransitionDetector.parseUptime("01:02:03"));
+		Assert.assertEquals(2 * 86400 + 3723, TransitionDetector.parseUptime("2.01:02:03.456"));
+		Assert.assertEquals(-1, TransitionDetector.parseUptime("01:02"));
+		Assert.assertEquals(-1, TransitionDetector.parseUptime(""));
+	}
+
+	/**
+	 * Creates a device with the given health and uptime properties
+	 *
+	 * @param deviceId id of the device
+	 * @param health health status value
+	 * @param uptime uptime value, null to leave it out
+	 * @return created device
+	 */
+	private AggregatedDevice createDevice(String deviceId, String health, String uptime) {
+		Map<String, String> properties = new HashMap<>();
+		properties.put(AggregatedInformation.DEVICE_STATUS.getName(), health);
+		if (uptime != null) {
+			properties.put(AggregatedInformation.UPTIME.getName(), uptime);
+		}
+		AggregatedDevice device = new AggregatedDevice();
+		device.setDeviceId(deviceId);
+		device.setDeviceName("Player " + deviceId);
+		device.setProperties(properties);
+		return device;
+	}
+}